@@ -11,6 +11,7 @@ export SENDGRID_API_KEY="$SENDGRID_API_KEY"
 export SENDGRID_FROM_EMAIL="subramanyam.duggirala@outlook.com"
 
 # JWT configuration
-export JWT_SECRET="local-development-jwt-secret"
+# A fresh random secret unless one is already set; tokens don't survive a new shell
+export JWT_SECRET="${JWT_SECRET:-$(openssl rand -base64 48)}"
 
 echo "Environment variables set for local development" 
\ No newline at end of file
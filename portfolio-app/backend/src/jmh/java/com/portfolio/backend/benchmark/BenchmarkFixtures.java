@@ -0,0 +1,75 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.model.ContactMessage;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.model.ProjectImage;
+import com.portfolio.backend.model.Tag;
+import com.portfolio.backend.model.Technology;
+import com.portfolio.backend.model.User;
+import com.portfolio.backend.model.Video;
+
+import java.time.ZonedDateTime;
+import java.util.HashSet;
+
+/**
+ * Representative entities for the benchmarks: a published project with a handful of
+ * tags and technologies, a couple of videos and a small image gallery.
+ */
+final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    static Project project(long id) {
+        ZonedDateTime now = ZonedDateTime.parse("2024-03-01T12:00:00Z");
+        Project project = new Project();
+        project.setId(id);
+        project.setTitle("Realtime Inventory Dashboard " + id);
+        project.setSlug("realtime-inventory-dashboard-" + id);
+        project.setDescription("A React and Spring Boot dashboard that streams stock levels from the warehouse floor.");
+        project.setContent("## Overview\n\n" + "The dashboard aggregates scanner events into live stock levels. ".repeat(40));
+        project.setThumbnail("https://cdn.example.com/projects/" + id + "/thumb.png");
+        project.setGithubUrl("https://github.com/example/inventory-" + id);
+        project.setLiveUrl("https://inventory-" + id + ".example.com");
+        project.setFeatured(id % 3 == 0);
+        project.setPublished(true);
+        project.setCreatedAt(now.minusDays(id));
+        project.setUpdatedAt(now);
+
+        User user = new User();
+        user.setId(1L);
+        user.setUsername("admin");
+        project.setUser(user);
+
+        String[] technologies = {"Java", "Spring Boot", "React", "TypeScript", "PostgreSQL"};
+        for (int i = 0; i < technologies.length; i++) {
+            project.getTechnologies().add(new Technology((long) i + 1, technologies[i], "icon-" + i, new HashSet<>()));
+        }
+        String[] tags = {"dashboard", "realtime", "logistics", "websockets", "charts"};
+        for (int i = 0; i < tags.length; i++) {
+            project.getTags().add(new Tag((long) i + 1, tags[i], new HashSet<>()));
+        }
+        for (int i = 0; i < 2; i++) {
+            project.getVideos().add(new Video(id * 10 + i, "Walkthrough " + i, "https://youtu.be/demo" + i,
+                    "https://img.youtube.com/vi/demo" + i + "/0.jpg", "Feature walkthrough", i, project, now, now));
+        }
+        for (int i = 0; i < 3; i++) {
+            project.getImages().add(new ProjectImage(id * 10 + i, "https://cdn.example.com/projects/" + id + "/" + i + ".png",
+                    "Screenshot " + i, i, project, now));
+        }
+        return project;
+    }
+
+    static ContactMessage contactMessage() {
+        ContactMessage message = new ContactMessage();
+        message.setName("Jordan Example");
+        message.setCompany("Example Corp");
+        message.setEmail("jordan@example.com");
+        message.setPhone("+1 402 555 0100");
+        message.setSubject("Full-stack role at Example Corp");
+        message.setMessage("Hi,\n\nI came across your portfolio and would like to talk about a role on our platform team.\n"
+                + "Would you have time for a call next week?\n\nThanks,\nJordan");
+        message.setWantsReply(true);
+        return message;
+    }
+}
@@ -0,0 +1,29 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.mail.ContactEmailComposer;
+import com.portfolio.backend.model.ContactMessage;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ContactEmailComposerBenchmark {
+
+    private final ContactEmailComposer composer = new ContactEmailComposer();
+    private ContactMessage message;
+
+    @Setup
+    public void setUp() {
+        message = BenchmarkFixtures.contactMessage();
+    }
+
+    @Benchmark
+    public String composeHtml() {
+        return composer.composeHtml(message);
+    }
+}
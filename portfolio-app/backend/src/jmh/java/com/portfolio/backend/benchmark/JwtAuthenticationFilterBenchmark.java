@@ -0,0 +1,83 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.security.JwtAuthenticationFilter;
+import com.portfolio.backend.security.JwtTokenProvider;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of JwtAuthenticationFilter: no token, a token answered from the
+ * verified-token cache, and a token that is fully parsed and verified every time. The
+ * user lookup is a stub, as cached user details are in the running server.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-0123456789abcdef0123456789";
+    private static final long EXPIRATION = Duration.ofDays(1).toMillis();
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter cachingFilter;
+    private JwtAuthenticationFilter verifyingFilter;
+    private MockHttpServletRequest anonymousRequest;
+    private MockHttpServletRequest bearerRequest;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider cachingProvider = new JwtTokenProvider(SECRET, EXPIRATION, 10_000, Duration.ofMinutes(5));
+        JwtTokenProvider verifyingProvider = new JwtTokenProvider(SECRET, EXPIRATION, 0, Duration.ofMinutes(5));
+        UserDetailsService userDetailsService = username -> User.withUsername(username)
+                .password("")
+                .roles("ADMIN")
+                .build();
+        cachingFilter = new JwtAuthenticationFilter(cachingProvider, userDetailsService);
+        verifyingFilter = new JwtAuthenticationFilter(verifyingProvider, userDetailsService);
+
+        String token = cachingProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                "admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+        anonymousRequest = new MockHttpServletRequest("GET", "/api/projects");
+        bearerRequest = new MockHttpServletRequest("GET", "/api/projects");
+        bearerRequest.addHeader("Authorization", "Bearer " + token);
+    }
+
+    @Benchmark
+    public void noToken() throws ServletException, IOException {
+        run(cachingFilter, anonymousRequest);
+    }
+
+    @Benchmark
+    public void cachedToken() throws ServletException, IOException {
+        run(cachingFilter, bearerRequest);
+    }
+
+    @Benchmark
+    public void verifiedEveryTime() throws ServletException, IOException {
+        run(verifyingFilter, bearerRequest);
+    }
+
+    private static void run(JwtAuthenticationFilter filter, MockHttpServletRequest request)
+            throws ServletException, IOException {
+        // OncePerRequestFilter marks the request as filtered; reset so every call does the work
+        request.removeAttribute(filter.getClass().getName() + ".FILTERED");
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,325 @@
+package com.portfolio.backend.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Closed-loop HTTP load generator for comparing the server's platform-thread and
+ * virtual-thread modes. Each of {@code --concurrency} client threads sends one request at
+ * a time for {@code --duration}, after a warmup whose results are discarded, and the run
+ * reports throughput and latency percentiles per scenario.
+ * <p>
+ * Scenarios: {@code list} ({@code GET /api/projects}), {@code detail}
+ * ({@code GET /api/projects/{slug}}), {@code contact} ({@code POST /api/contact/send}) and
+ * {@code create} ({@code POST /api/projects} with {@code --media} videos and as many images,
+ * 10 by default).
+ * Before the run a {@code loadtest} user is registered and {@code --projects} projects are
+ * created, so the target only needs the {@code loadtest} and {@code fake-sendgrid} profiles.
+ * <p>
+ * With {@code --server-pid} (a server on the same Linux host) the run also reports the
+ * server's CPU time per request, read from {@code /proc/<pid>/stat} around each measured
+ * phase. {@code --accept-encoding} is sent on every request, e.g. {@code gzip}. When the
+ * server runs with {@code app.profiling.enabled}, the SQL statements (database round trips)
+ * per request are read from its {@code Server-Timing} header and reported too.
+ * <pre>
+ * mvn -Pbenchmark test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.portfolio.backend.benchmark.LoadTest \
+ *     -Dexec.args="--base-url=http://localhost:8080 --concurrency=400 --duration=PT30S"
+ * </pre>
+ */
+public class LoadTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "loadtest-password";
+    private static final Pattern STATEMENTS = Pattern.compile("db;[^,]*desc=\"(\\d+) statements\"");
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int projectCount;
+    private final List<String> scenarios;
+    private final String serverPid;
+    private final String acceptEncoding;
+    private final int mediaCount;
+    private final HttpClient client;
+    private final List<String> slugs = new ArrayList<>();
+    private String token;
+
+    LoadTest(Map<String, String> options) {
+        this.baseUrl = options.getOrDefault("base-url", "http://localhost:8080");
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        this.warmup = Duration.parse(options.getOrDefault("warmup", "PT10S"));
+        this.duration = Duration.parse(options.getOrDefault("duration", "PT30S"));
+        this.projectCount = Integer.parseInt(options.getOrDefault("projects", "50"));
+        this.scenarios = Arrays.asList(options.getOrDefault("scenarios", "list,detail,contact").split(","));
+        this.serverPid = options.get("server-pid");
+        this.acceptEncoding = options.get("accept-encoding");
+        this.mediaCount = Integer.parseInt(options.getOrDefault("media", "10"));
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value, got " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+        new LoadTest(options).run();
+    }
+
+    void run() throws Exception {
+        seed();
+        System.out.printf("%-8s %10s %8s %10s %9s %9s %9s %9s %12s %12s%n",
+                "scenario", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms", "cpu us/req",
+                "stmts/req");
+        for (String scenario : scenarios) {
+            execute(scenario, warmup);
+            long cpuBefore = serverCpuMicros();
+            Result result = execute(scenario, duration);
+            long cpuMicros = serverCpuMicros() - cpuBefore;
+            System.out.printf("%-8s %10d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %12s %12s%n",
+                    scenario, result.requests(), result.errors(), result.requests() / (duration.toMillis() / 1000.0),
+                    result.percentile(0.50), result.percentile(0.90), result.percentile(0.99), result.percentile(1.0),
+                    serverPid == null || result.requests() == 0
+                            ? "-" : String.format("%.1f", cpuMicros / (double) result.requests()),
+                    result.profiled() == 0
+                            ? "-" : String.format("%.1f", result.statements() / (double) result.profiled()));
+        }
+    }
+
+    private void seed() throws IOException, InterruptedException {
+        // Registration fails harmlessly when the user already exists from an earlier run
+        send(post("/api/auth/register", Map.of(
+                "username", USERNAME, "email", "loadtest@example.com", "password", PASSWORD)).build());
+        HttpResponse<String> login = send(post("/api/auth/login",
+                Map.of("username", USERNAME, "password", PASSWORD)).build());
+        if (login.statusCode() != 200) {
+            throw new IllegalStateException("Login failed: " + login.statusCode() + " " + login.body());
+        }
+        token = MAPPER.readTree(login.body()).path("token").asText();
+
+        for (JsonNode project : MAPPER.readTree(send(get("/api/projects?page=0&size=" + projectCount)).body()).path("content")) {
+            slugs.add(project.path("slug").asText());
+        }
+        for (int i = slugs.size(); i < projectCount; i++) {
+            HttpResponse<String> created = send(post("/api/projects", project("Load test project " + i, 0))
+                    .header("Authorization", "Bearer " + token)
+                    .build());
+            if (created.statusCode() / 100 != 2) {
+                throw new IllegalStateException("Seeding failed: " + created.statusCode() + " " + created.body());
+            }
+            slugs.add(MAPPER.readTree(created.body()).path("slug").asText());
+        }
+    }
+
+    private Result execute(String scenario, Duration runFor) throws InterruptedException {
+        long deadline = System.nanoTime() + runFor.toNanos();
+        CountDownLatch done = new CountDownLatch(concurrency);
+        AtomicInteger errors = new AtomicInteger();
+        AtomicInteger profiled = new AtomicInteger();
+        AtomicLong statements = new AtomicLong();
+        long[][] latencies = new long[concurrency][];
+        int[] counts = new int[concurrency];
+
+        for (int t = 0; t < concurrency; t++) {
+            int worker = t;
+            Thread thread = new Thread(() -> {
+                long[] samples = new long[4096];
+                int count = 0;
+                try {
+                    while (System.nanoTime() < deadline) {
+                        HttpRequest request = request(scenario, worker, count);
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<String> response = send(request);
+                            if (response.statusCode() / 100 != 2) {
+                                errors.incrementAndGet();
+                            }
+                            int statementCount = statementCount(response);
+                            if (statementCount >= 0) {
+                                profiled.incrementAndGet();
+                                statements.addAndGet(statementCount);
+                            }
+                        } catch (IOException e) {
+                            errors.incrementAndGet();
+                        }
+                        if (count == samples.length) {
+                            samples = Arrays.copyOf(samples, count * 2);
+                        }
+                        samples[count++] = System.nanoTime() - start;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latencies[worker] = samples;
+                    counts[worker] = count;
+                    done.countDown();
+                }
+            }, "load-" + scenario + "-" + t);
+            thread.setDaemon(true);
+            thread.start();
+        }
+        done.await();
+
+        int total = 0;
+        for (int count : counts) {
+            total += count;
+        }
+        long[] merged = new long[total];
+        int position = 0;
+        for (int t = 0; t < concurrency; t++) {
+            System.arraycopy(latencies[t], 0, merged, position, counts[t]);
+            position += counts[t];
+        }
+        Arrays.sort(merged);
+        return new Result(merged, errors.get(), profiled.get(), statements.get());
+    }
+
+    private HttpRequest request(String scenario, int worker, int sequence) {
+        switch (scenario) {
+            case "list":
+                return get("/api/projects?page=0&size=10");
+            case "detail":
+                return get("/api/projects/" + slugs.get(ThreadLocalRandom.current().nextInt(slugs.size())));
+            case "contact":
+                return post("/api/contact/send", Map.of(
+                        "name", "Load Test",
+                        "email", "sender" + worker + "-" + sequence + "@example.com",
+                        "subject", "Load test",
+                        "message", "Message " + sequence + " from worker " + worker)).build();
+            case "create":
+                return post("/api/projects", project("Load test " + scenario + " " + worker + "-" + sequence + "-"
+                        + ThreadLocalRandom.current().nextInt(1_000_000), mediaCount))
+                        .header("Authorization", "Bearer " + token)
+                        .build();
+            default:
+                throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        }
+    }
+
+    private static Map<String, Object> project(String title, int mediaCount) {
+        List<Map<String, Object>> videos = new ArrayList<>(mediaCount);
+        List<Map<String, Object>> images = new ArrayList<>(mediaCount);
+        for (int i = 0; i < mediaCount; i++) {
+            videos.add(Map.of("title", "Video " + i, "url", "https://example.com/videos/" + i, "orderIndex", i));
+            images.add(Map.of("url", "https://example.com/images/" + i + ".png", "altText", "Image " + i,
+                    "orderIndex", i));
+        }
+        return Map.of(
+                "title", title,
+                "description", "Seeded by the load-test harness",
+                "content", "Project body ".repeat(200),
+                "published", true,
+                "videos", videos,
+                "images", images);
+    }
+
+    // The statement count from a profiled server's Server-Timing header, or -1 without one
+    private static int statementCount(HttpResponse<?> response) {
+        Matcher matcher = response.headers().firstValue("Server-Timing")
+                .map(STATEMENTS::matcher)
+                .orElse(null);
+        return matcher != null && matcher.find() ? Integer.parseInt(matcher.group(1)) : -1;
+    }
+
+    private HttpRequest get(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (acceptEncoding != null) {
+            builder.header("Accept-Encoding", acceptEncoding);
+        }
+        return builder.build();
+    }
+
+    // utime + stime of the server process; /proc reports them in clock ticks of 10 ms
+    private long serverCpuMicros() throws IOException {
+        if (serverPid == null) {
+            return 0;
+        }
+        String stat = Files.readString(Path.of("/proc", serverPid, "stat"));
+        // Fields after the parenthesised command name; utime and stime are fields 14 and 15
+        String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+        return (Long.parseLong(fields[11]) + Long.parseLong(fields[12])) * 10_000;
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, ?> body) {
+        try {
+            return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(MAPPER.writeValueAsString(body)));
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static class Result {
+        private final long[] sortedNanos;
+        private final int errors;
+        private final int profiled;
+        private final long statements;
+
+        Result(long[] sortedNanos, int errors, int profiled, long statements) {
+            this.sortedNanos = sortedNanos;
+            this.errors = errors;
+            this.profiled = profiled;
+            this.statements = statements;
+        }
+
+        int errors() {
+            return errors;
+        }
+
+        int profiled() {
+            return profiled;
+        }
+
+        long statements() {
+            return statements;
+        }
+
+        int requests() {
+            return sortedNanos.length;
+        }
+
+        double percentile(double fraction) {
+            if (sortedNanos.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(fraction * sortedNanos.length) - 1;
+            return sortedNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
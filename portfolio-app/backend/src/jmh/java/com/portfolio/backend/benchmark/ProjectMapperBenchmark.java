@@ -0,0 +1,30 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.mapper.ProjectMapper;
+import com.portfolio.backend.model.Project;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjectMapperBenchmark {
+
+    private final ProjectMapper mapper = new ProjectMapper();
+    private Project project;
+
+    @Setup
+    public void setUp() {
+        project = BenchmarkFixtures.project(42);
+    }
+
+    @Benchmark
+    public ProjectDto toDto() {
+        return mapper.toDto(project);
+    }
+}
@@ -0,0 +1,41 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.util.LegacySlugUtil;
+import com.portfolio.backend.util.SlugUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SlugUtilBenchmark {
+
+    @Param({
+            "Realtime Inventory Dashboard",
+            "  Spring Boot + React: a   Full-Stack Portfolio (v2)  ",
+            "Café Économique — Gestion des Réservations",
+            "realtime-inventory-dashboard"
+    })
+    public String title;
+
+    @Setup
+    public void verifyEquivalence() {
+        if (!SlugUtil.createSlug(title).equals(LegacySlugUtil.createSlug(title))) {
+            throw new IllegalStateException("SlugUtil and LegacySlugUtil disagree on: " + title);
+        }
+    }
+
+    @Benchmark
+    public String createSlug() {
+        return SlugUtil.createSlug(title);
+    }
+
+    @Benchmark
+    public String createSlugLegacy() {
+        return LegacySlugUtil.createSlug(title);
+    }
+}
@@ -0,0 +1,57 @@
+package com.portfolio.backend.benchmark;
+
+import com.portfolio.backend.ratelimit.TokenBucketRateLimiter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Limiter cost under contention: 16 threads either spread over many client keys
+ * (the normal case) or all hammering one key (a single abusive client).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class TokenBucketRateLimiterBenchmark {
+
+    private static final int KEYS = 1024;
+
+    private TokenBucketRateLimiter limiter;
+    private String[] keys;
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        int next;
+
+        @Setup
+        public void setUp() {
+            next = (int) Thread.currentThread().getId();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        // Capacity high enough that the benchmark measures the allowed path, not rejections
+        limiter = new TokenBucketRateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1), 100_000);
+        keys = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "10.0." + (i >> 8) + "." + (i & 255);
+        }
+    }
+
+    @Benchmark
+    public long manyKeys(ThreadCursor cursor) {
+        cursor.next += 31;
+        return limiter.tryAcquire(keys[cursor.next & (KEYS - 1)]);
+    }
+
+    @Benchmark
+    public long singleKey() {
+        return limiter.tryAcquire(keys[0]);
+    }
+}
@@ -1,17 +1,12 @@
 package com.portfolio.backend.config;
 
-import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
-import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
-import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
-import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @Configuration
-@EnableAutoConfiguration(exclude = {
-    DataSourceAutoConfiguration.class,
-    HibernateJpaAutoConfiguration.class,
-    DataSourceTransactionManagerAutoConfiguration.class
-})
+@EntityScan(basePackages = "com.portfolio.backend.model")
+@EnableJpaRepositories(basePackages = "com.portfolio.backend.repository")
 public class AppConfig {
     // Configuration methods can be added here as needed
-} 
\ No newline at end of file
+}
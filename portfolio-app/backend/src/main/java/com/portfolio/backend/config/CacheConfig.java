@@ -0,0 +1,97 @@
+package com.portfolio.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import com.portfolio.backend.dto.SerializedBody;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String PROJECT_PAGES = "projectPages";
+    public static final String PROJECT_SUMMARIES = "projectSummaries";
+    public static final String PROJECT_BY_SLUG = "projectBySlug";
+    public static final String PROJECT_BODIES = "projectBodies";
+    public static final String USER_DETAILS = "userDetails";
+    public static final String UNKNOWN_USERS = "unknownUsers";
+
+    @Value("${app.cache.project-pages.maximum-size:200}")
+    private long projectPagesMaximumSize;
+
+    @Value("${app.cache.project-by-slug.maximum-size:1000}")
+    private long projectBySlugMaximumSize;
+
+    @Value("${app.cache.project-bodies.maximum-weight:32MB}")
+    private DataSize projectBodiesMaximumWeight;
+
+    @Value("${app.cache.time-to-live:10m}")
+    private Duration timeToLive;
+
+    @Value("${app.cache.user-details.maximum-size:1000}")
+    private long userDetailsMaximumSize;
+
+    @Value("${app.cache.user-details.time-to-live:10m}")
+    private Duration userDetailsTimeToLive;
+
+    @Value("${app.cache.unknown-users.maximum-size:10000}")
+    private long unknownUsersMaximumSize;
+
+    @Value("${app.cache.unknown-users.time-to-live:1m}")
+    private Duration unknownUsersTimeToLive;
+
+    @Bean
+    public CacheManager cacheManager() {
+        // Each cache's stats counter, so the loads StripedLoadCaffeineCache runs itself are recorded too
+        Map<String, StatsCounter> statsCounters = new HashMap<>();
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, Cache<Object, Object> cache) {
+                // Keeps sync=true loads off the map's monitors, see StripedLoadCaffeineCache
+                return new StripedLoadCaffeineCache(name, cache, statsCounters.get(name), isAllowNullValues());
+            }
+        };
+        // Only the caches registered here exist; they are also the ones bound to cache metrics
+        register(cacheManager, statsCounters, PROJECT_PAGES, newCache(projectPagesMaximumSize));
+        register(cacheManager, statsCounters, PROJECT_SUMMARIES, newCache(projectPagesMaximumSize));
+        register(cacheManager, statsCounters, PROJECT_BY_SLUG, newCache(projectBySlugMaximumSize));
+        // Entries are keyed by project version and never go stale, so they are bounded by bytes
+        register(cacheManager, statsCounters, PROJECT_BODIES, Caffeine.newBuilder()
+                .maximumWeight(projectBodiesMaximumWeight.toBytes())
+                .weigher((Object key, Object value) -> value instanceof SerializedBody body ? body.size() : 1)
+                .expireAfterWrite(timeToLive));
+        register(cacheManager, statsCounters, USER_DETAILS, newCache(userDetailsMaximumSize, userDetailsTimeToLive));
+        // Short-lived so a user created outside the app becomes visible quickly
+        register(cacheManager, statsCounters, UNKNOWN_USERS, newCache(unknownUsersMaximumSize, unknownUsersTimeToLive));
+        return cacheManager;
+    }
+
+    private static void register(CaffeineCacheManager cacheManager, Map<String, StatsCounter> statsCounters,
+                                 String name, Caffeine<Object, Object> builder) {
+        StatsCounter statsCounter = new ConcurrentStatsCounter();
+        statsCounters.put(name, statsCounter);
+        cacheManager.registerCustomCache(name, builder.recordStats(() -> statsCounter).build());
+    }
+
+    private Caffeine<Object, Object> newCache(long maximumSize) {
+        return newCache(maximumSize, timeToLive);
+    }
+
+    private Caffeine<Object, Object> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite);
+    }
+}
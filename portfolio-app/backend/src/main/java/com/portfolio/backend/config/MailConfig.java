@@ -0,0 +1,67 @@
+package com.portfolio.backend.config;
+
+import com.sendgrid.Client;
+import com.sendgrid.SendGrid;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class MailConfig {
+
+    @Value("${sendgrid.api.key}")
+    private String sendgridApiKey;
+
+    // Pointed at the fake-sendgrid profile's endpoint (e.g. localhost:8080) for local runs
+    @Value("${sendgrid.api.host:api.sendgrid.com}")
+    private String sendgridHost;
+
+    @Value("${sendgrid.api.plain-http:false}")
+    private boolean plainHttp;
+
+    @Value("${contact.dispatch.workers:4}")
+    private int workers;
+
+    @Value("${sendgrid.api.connect-timeout:5s}")
+    private Duration connectTimeout;
+
+    @Value("${sendgrid.api.read-timeout:15s}")
+    private Duration readTimeout;
+
+    /**
+     * One pooled HTTP client shared by every dispatch worker, so keep-alive connections to
+     * SendGrid are reused instead of a new client (and TLS handshake) per email.
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient sendGridHttpClient() {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(workers);
+        connectionManager.setDefaultMaxPerRoute(workers);
+
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setConnectionRequestTimeout((int) connectTimeout.toMillis())
+                .setSocketTimeout((int) readTimeout.toMillis())
+                .build();
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .build();
+    }
+
+    @Bean
+    public SendGrid sendGrid(CloseableHttpClient sendGridHttpClient) {
+        SendGrid sendGrid = new SendGrid(sendgridApiKey, new Client(sendGridHttpClient, plainHttp));
+        sendGrid.setHost(sendgridHost);
+        return sendGrid;
+    }
+}
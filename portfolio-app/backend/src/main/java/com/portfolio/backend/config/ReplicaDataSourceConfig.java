@@ -0,0 +1,94 @@
+package com.portfolio.backend.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-replica routing, on when {@code app.datasource.replica-urls} lists one or more JDBC
+ * URLs (comma separated). The primary pool is built from {@code spring.datasource.*} as
+ * Spring Boot would; each replica gets a copy of its settings with the replica's URL, the
+ * same credentials, and a short connection timeout so a dead replica is skipped quickly.
+ * Replicas may be down at startup.
+ * <p>
+ * Read-only transactions go to the replicas (see {@link ReplicaRoutingDataSource});
+ * everything else, Flyway included, goes to the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica-urls")
+public class ReplicaDataSourceConfig {
+
+    @Value("${app.datasource.replica-urls}")
+    private List<String> replicaUrls;
+
+    @Value("${app.datasource.replica-connection-timeout:2s}")
+    private Duration replicaConnectionTimeout;
+
+    @Value("${app.datasource.replica-retry-interval:30s}")
+    private Duration replicaRetryInterval;
+
+    @Value("${app.datasource.read-your-writes-window:5s}")
+    private Duration readYourWritesWindow;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource primaryDataSource,
+                                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        List<HikariDataSource> replicas = new ArrayList<>(replicaUrls.size());
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(replicaUrls.get(i).trim());
+            config.setPoolName("replica-" + (i + 1));
+            config.setConnectionTimeout(replicaConnectionTimeout.toMillis());
+            // Don't fail startup on a replica that is down; it is retried like any other outage
+            config.setInitializationFailTimeout(-1);
+            meterRegistry.ifAvailable(registry -> config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+            replicas.add(new HikariDataSource(config));
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicas, replicaRetryInterval, readYourWritesWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    /**
+     * Hibernate otherwise holds the first connection a session gets until the session closes,
+     * which with open-in-view is the whole request: a read-only transaction followed by a
+     * write in the same request would write through the replica connection. Releasing after
+     * each transaction lets every transaction be routed on its own.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer replicaConnectionHandlingCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
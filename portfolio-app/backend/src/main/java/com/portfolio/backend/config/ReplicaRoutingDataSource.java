@@ -0,0 +1,136 @@
+package com.portfolio.backend.config;
+
+import com.portfolio.backend.event.ProjectChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections for read-only transactions to the replicas, round robin, and everything
+ * else to the primary. Must sit behind a {@code LazyConnectionDataSourceProxy}: the
+ * transaction's read-only flag is only set after it begins, so the routing decision has to
+ * wait for the first statement.
+ * <p>
+ * A replica that fails to hand out a connection is skipped for {@code retryInterval} and the
+ * next one is tried; with none available, reads fall back to the primary. For
+ * {@code readYourWritesWindow} after a project change commits, reads also go to the primary,
+ * so the caches and snapshots reloaded after the change never pick up a lagging replica's
+ * older copy. The window is per instance, like those caches.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long retryIntervalNanos;
+    private final long readYourWritesWindowNanos;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile long lastWriteNanos;
+    private volatile boolean written;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+                                    Duration retryInterval, Duration readYourWritesWindow) {
+        this.primary = primary;
+        for (int i = 0; i < replicas.size(); i++) {
+            this.replicas.add(new Replica("replica-" + (i + 1), replicas.get(i)));
+        }
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.readYourWritesWindowNanos = readYourWritesWindow.toNanos();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || withinWriteWindow()) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+        long now = System.nanoTime();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isAvailable(now)) {
+                Connection connection = replica.getConnection(now);
+                if (connection != null) {
+                    return connection;
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new UnsupportedOperationException("Connections use the pools' configured credentials");
+    }
+
+    /**
+     * Opens the read-your-writes window. Runs before commit, so there is no moment where the
+     * change is visible on the primary but reads still go to a replica.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        lastWriteNanos = System.nanoTime();
+        written = true;
+    }
+
+    private boolean withinWriteWindow() {
+        return written && System.nanoTime() - lastWriteNanos < readYourWritesWindowNanos;
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        // System.nanoTime() before which the replica is skipped; 0 while healthy
+        private volatile long downUntilNanos;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        boolean isAvailable(long now) {
+            long downUntil = downUntilNanos;
+            return downUntil == 0 || now - downUntil >= 0;
+        }
+
+        Connection getConnection(long now) {
+            try {
+                Connection connection = dataSource.getConnection();
+                if (downUntilNanos != 0) {
+                    downUntilNanos = 0;
+                    logger.info("Read replica {} is available again", name);
+                }
+                return connection;
+            } catch (SQLException ex) {
+                downUntilNanos = now + retryIntervalNanos;
+                logger.warn("Read replica {} is unavailable, retrying in {} ms: {}",
+                        name, retryIntervalNanos / 1_000_000, ex.getMessage());
+                return null;
+            }
+        }
+    }
+}
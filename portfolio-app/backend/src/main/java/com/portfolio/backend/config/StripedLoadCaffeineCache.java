@@ -0,0 +1,113 @@
+package com.portfolio.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caffeine cache whose {@code @Cacheable(sync = true)} loads run outside the map.
+ * <p>
+ * {@link CaffeineCache#get(Object, Callable)} loads inside {@code ConcurrentHashMap.compute},
+ * i.e. while holding a bin monitor. A virtual thread that blocks on JDBC there stays pinned
+ * to its carrier, and a handful of concurrent misses can stall every carrier. Here misses
+ * are serialized per key on a striped {@link ReentrantLock} instead, which a virtual thread
+ * can park on, so concurrent callers for one key still load it only once.
+ * <p>
+ * An evict or clear that lands while a load is running bumps a generation counter, and the
+ * load's result is then returned without being cached, so a value read before the
+ * invalidation never outlives it.
+ * <p>
+ * Since Caffeine never sees these loads, they are recorded on the {@link StatsCounter} the
+ * cache was built with, and the re-check under the lock is a quiet read: each call counts
+ * one hit or one miss, and the {@code cache.load*} metrics report as they would for
+ * Caffeine's own loading.
+ */
+public class StripedLoadCaffeineCache extends CaffeineCache {
+
+    private static final int STRIPES = 64;
+
+    private final StatsCounter statsCounter;
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * @param statsCounter the counter {@code cache} records its statistics on, i.e. the one
+     *                     given to {@code Caffeine.recordStats(Supplier)}
+     */
+    public StripedLoadCaffeineCache(String name, Cache<Object, Object> cache, StatsCounter statsCounter,
+                                    boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+        this.statsCounter = statsCounter;
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            // This call's miss is already counted
+            Object stored = getNativeCache().policy().getIfPresentQuietly(key);
+            if (stored != null) {
+                return (T) fromStoreValue(stored);
+            }
+            long loadGeneration = generation.get();
+            long start = System.nanoTime();
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Throwable ex) {
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+            statsCounter.recordLoadSuccess(System.nanoTime() - start);
+            if (generation.get() == loadGeneration) {
+                put(key, value);
+            }
+            return value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        generation.incrementAndGet();
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        generation.incrementAndGet();
+        return super.invalidate();
+    }
+
+    private ReentrantLock lockFor(Object key) {
+        int hash = key.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+}
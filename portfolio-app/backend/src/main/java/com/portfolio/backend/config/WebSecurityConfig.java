@@ -1,31 +1,69 @@
 package com.portfolio.backend.config;
 
+import com.portfolio.backend.security.BCryptStrengthCalibrator;
+import com.portfolio.backend.security.JwtAuthenticationEntryPoint;
+import com.portfolio.backend.security.JwtAuthenticationFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.time.Duration;
 import java.util.Arrays;
 
 @Configuration
 @EnableWebSecurity
+// The project write endpoints are guarded by @PreAuthorize on the controller
+@EnableMethodSecurity
 @Primary
 public class WebSecurityConfig {
 
+    private static final Logger logger = LoggerFactory.getLogger(WebSecurityConfig.class);
+
     @Value("${cors.allowed-origins}")
     private String[] allowedOrigins;
 
+    // A positive value pins the BCrypt cost; 0 calibrates it at startup to the target latency
+    @Value("${app.security.bcrypt.strength:0}")
+    private int bcryptStrength;
+
+    @Value("${app.security.bcrypt.target-latency:PT0.25S}")
+    private Duration bcryptTargetLatency;
+
+    @Value("${app.security.bcrypt.min-strength:10}")
+    private int bcryptMinStrength;
+
+    @Value("${app.security.bcrypt.max-strength:14}")
+    private int bcryptMaxStrength;
+
+    private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
+
+    public WebSecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter,
+                             JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint) {
+        this.jwtAuthenticationFilter = jwtAuthenticationFilter;
+        this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
+    }
+
     @Bean
     @Primary
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -35,17 +73,36 @@ public class WebSecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/contact/**").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
+                // Metrics, caches and the Prometheus scrape describe internals; only health is public
+                .requestMatchers(EndpointRequest.to(HealthEndpoint.class)).permitAll()
+                .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
+                // Also checked by @PreAuthorize; here a refused upload is never read
+                .requestMatchers(HttpMethod.POST, "/api/projects/import").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/projects/export").hasRole("ADMIN")
                 .anyRequest().permitAll()
             )
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+            )
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
             .formLogin(form -> form.disable())
             .httpBasic(basic -> basic.disable());
         
         return http.build();
     }
 
+    // The JWT filter is a @Component; keep Boot from also registering it as a plain servlet
+    // filter, where it would run outside (and be undone by) the security filter chain
+    @Bean
+    public FilterRegistrationBean<JwtAuthenticationFilter> jwtAuthenticationFilterRegistration() {
+        FilterRegistrationBean<JwtAuthenticationFilter> registration = new FilterRegistrationBean<>(jwtAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
+    }
+
     @Bean
     @Primary
     public CorsConfigurationSource corsConfigurationSource() {
@@ -64,7 +121,15 @@ public class WebSecurityConfig {
     @Bean
     @Primary
     public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        int strength = bcryptStrength;
+        if (strength <= 0) {
+            strength = BCryptStrengthCalibrator.calibrate(bcryptTargetLatency, bcryptMinStrength, bcryptMaxStrength);
+            logger.info("Calibrated BCrypt strength {} for a target of {} ms per hash",
+                    strength, bcryptTargetLatency.toMillis());
+        }
+        // Hashes below this strength are upgraded on the next successful login, see
+        // CustomUserDetailsService.updatePassword
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -10,6 +10,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/auth")
 public class AuthController {
@@ -20,16 +22,17 @@ public class AuthController {
         this.authService = authService;
     }
 
+    // Async: the servlet thread is released while BCrypt runs on the hashing pool
     @PostMapping("/login")
-    public ResponseEntity<JwtAuthResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
-        String token = authService.login(loginRequest);
-        return ResponseEntity.ok(new JwtAuthResponse(token));
+    public CompletableFuture<ResponseEntity<JwtAuthResponse>> login(@Valid @RequestBody LoginRequest loginRequest) {
+        return authService.login(loginRequest)
+                .thenApply(token -> ResponseEntity.ok(new JwtAuthResponse(token)));
     }
 
     @PostMapping("/register")
-    public ResponseEntity<UserDto> register(@Valid @RequestBody RegisterRequest registerRequest) {
-        UserDto registeredUser = authService.register(registerRequest);
-        return new ResponseEntity<>(registeredUser, HttpStatus.CREATED);
+    public CompletableFuture<ResponseEntity<UserDto>> register(@Valid @RequestBody RegisterRequest registerRequest) {
+        return authService.register(registerRequest)
+                .thenApply(registeredUser -> new ResponseEntity<>(registeredUser, HttpStatus.CREATED));
     }
 
     @GetMapping("/me")
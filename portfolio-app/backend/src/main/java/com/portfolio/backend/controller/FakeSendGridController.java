@@ -0,0 +1,57 @@
+package com.portfolio.backend.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for the SendGrid v3 mail endpoint, for local runs and dispatch throughput tests.
+ * Enable with the {@code fake-sendgrid} profile and point the client at it with
+ * {@code sendgrid.api.host=localhost:8080} and {@code sendgrid.api.plain-http=true}.
+ */
+@RestController
+@RequestMapping("/v3")
+@Profile("fake-sendgrid")
+public class FakeSendGridController {
+
+    private static final Logger logger = LoggerFactory.getLogger(FakeSendGridController.class);
+
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Value("${fake-sendgrid.latency:0ms}")
+    private Duration latency;
+
+    // Fraction of requests answered with 503, to exercise retries
+    @Value("${fake-sendgrid.failure-rate:0.0}")
+    private double failureRate;
+
+    @PostMapping("/mail/send")
+    public ResponseEntity<?> send(@RequestBody String body) throws InterruptedException {
+        if (!latency.isZero()) {
+            Thread.sleep(latency.toMillis());
+        }
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            rejected.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("errors", "simulated outage"));
+        }
+        long count = accepted.incrementAndGet();
+        logger.debug("Fake SendGrid accepted message #{} ({} bytes)", count, body.length());
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/mail/stats")
+    public Map<String, Long> stats() {
+        return Map.of("accepted", accepted.get(), "rejected", rejected.get());
+    }
+}
@@ -1,42 +1,111 @@
 package com.portfolio.backend.controller;
 
+import com.portfolio.backend.dto.CursorPageDto;
 import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.ProjectFacetsDto;
+import com.portfolio.backend.dto.ProjectImportResultDto;
+import com.portfolio.backend.dto.ProjectSummaryDto;
+import com.portfolio.backend.dto.SerializedBody;
+import com.portfolio.backend.exception.BadRequestException;
 import com.portfolio.backend.service.ProjectService;
+import com.portfolio.backend.web.ProjectBodyCache;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @RestController
 @RequestMapping("/api/projects")
 public class ProjectController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final ProjectService projectService;
+    private final ProjectBodyCache projectBodyCache;
     
-    public ProjectController(ProjectService projectService) {
+    public ProjectController(ProjectService projectService, ProjectBodyCache projectBodyCache) {
         this.projectService = projectService;
+        this.projectBodyCache = projectBodyCache;
     }
 
-    @GetMapping
-    public ResponseEntity<Page<ProjectDto>> getAllProjects(
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getAllProjects(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean onlyPublished,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) List<String> tech,
+            @RequestParam(defaultValue = "all") String match,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (isEmpty(tags) && isEmpty(tech)) {
+            Page<ProjectDto> projects = projectService.getAllProjects(page, size, onlyPublished);
+            return serialized(projectBodyCache.get("page", projects, projects.getContent(),
+                    projects.getNumber(), projects.getSize(), projects.getTotalElements(), onlyPublished), acceptEncoding);
+        }
+        boolean matchAll = matchAll(match);
+        Page<ProjectDto> projects = projectService.getProjectsByFacets(tags, tech, matchAll, page, size, onlyPublished);
+        return serialized(projectBodyCache.get("facetPage", projects, projects.getContent(),
+                projects.getNumber(), projects.getSize(), projects.getTotalElements(), onlyPublished,
+                tags, tech, matchAll), acceptEncoding);
+    }
+
+    /**
+     * Project counts per tag and technology, optionally narrowed by the same filter
+     * {@code GET /api/projects} accepts. Answered from the facet index alone.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<ProjectFacetsDto> getFacets(
+            @RequestParam(defaultValue = "false") boolean onlyPublished,
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) List<String> tech,
+            @RequestParam(defaultValue = "all") String match) {
+        return ResponseEntity.ok(projectService.getFacets(tags, tech, matchAll(match), onlyPublished));
+    }
+
+    @GetMapping("/summaries")
+    public ResponseEntity<Page<ProjectSummaryDto>> getProjectSummaries(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "false") boolean onlyPublished) {
-        return ResponseEntity.ok(projectService.getAllProjects(page, size, onlyPublished));
+        return ResponseEntity.ok(projectService.getProjectSummaries(page, size, onlyPublished));
     }
 
-    @GetMapping("/{slug}")
-    public ResponseEntity<ProjectDto> getProjectBySlug(@PathVariable String slug) {
-        return ResponseEntity.ok(projectService.getProjectBySlug(slug));
+    @GetMapping(value = "/scroll", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getProjectsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean onlyPublished,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        CursorPageDto<ProjectDto> projects = projectService.getProjectsAfter(cursor, size, onlyPublished);
+        return serialized(projectBodyCache.get("scroll", projects, projects.getContent(), cursor, size, onlyPublished),
+                acceptEncoding);
     }
 
-    @GetMapping("/featured")
-    public ResponseEntity<List<ProjectDto>> getFeaturedProjects() {
-        return ResponseEntity.ok(projectService.getFeaturedProjects());
+    @GetMapping(value = "/{slug}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getProjectBySlug(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ProjectDto project = projectService.getProjectBySlug(slug);
+        return serialized(projectBodyCache.get(project), acceptEncoding);
+    }
+
+    /**
+     * Written straight from the in-memory snapshot; nothing is serialized per request.
+     */
+    @GetMapping(value = "/featured", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getFeaturedProjects(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return serialized(projectService.getFeaturedProjects(), acceptEncoding);
     }
 
     @GetMapping("/search")
@@ -48,22 +117,96 @@ public class ProjectController {
     }
 
     @PostMapping
-    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ProjectDto> createProject(@Valid @RequestBody ProjectDto projectDto) {
         return new ResponseEntity<>(projectService.createProject(projectDto), HttpStatus.CREATED);
     }
 
     @PutMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ProjectDto> updateProject(@PathVariable Long id, 
                                                    @Valid @RequestBody ProjectDto projectDto) {
         return ResponseEntity.ok(projectService.updateProject(id, projectDto));
     }
 
     @DeleteMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN') or hasRole('USER')")
+    @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<Void> deleteProject(@PathVariable Long id) {
         projectService.deleteProject(id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Bulk import: the body is newline-delimited JSON, one {@link ProjectDto} per line.
+     * Lines are read as they arrive, so the upload is never held in memory as a whole.
+     */
+    @PostMapping(value = "/import", consumes = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProjectImportResultDto> importProjects(InputStream body) throws IOException {
+        return ResponseEntity.ok(projectService.importProjects(body));
+    }
+
+    /**
+     * Bulk export in the format {@code /import} accepts, streamed from a database cursor.
+     * Written on the request thread rather than as an async body, so a large export isn't
+     * cut off by the async request timeout.
+     */
+    @GetMapping(value = "/export", produces = NDJSON)
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportProjects(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"projects.ndjson\"");
+        projectService.exportProjects(response.getOutputStream());
+    }
+
+    private static boolean matchAll(String match) {
+        if ("all".equalsIgnoreCase(match)) {
+            return true;
+        }
+        if ("any".equalsIgnoreCase(match)) {
+            return false;
+        }
+        throw new BadRequestException("match must be 'all' or 'any'");
+    }
+
+    private static boolean isEmpty(List<String> values) {
+        return values == null || values.isEmpty();
+    }
+
+    /**
+     * Writes a pre-serialized body as is, picking the gzipped copy when the client accepts it.
+     * Tags the response with an ETag and Last-Modified derived from the projects' updatedAt;
+     * Spring answers a matching If-None-Match / If-Modified-Since with 304 and no body.
+     * no-cache lets browsers and the CDN store it but forces revalidation.
+     */
+    private static ResponseEntity<byte[]> serialized(SerializedBody body, String acceptEncoding) {
+        boolean gzip = body.getGzipped() != null && acceptsGzip(acceptEncoding);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .eTag(gzip ? body.getGzippedEtag() : body.getEtag());
+        if (gzip) {
+            builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (body.getLastModified() != null) {
+            builder.lastModified(body.getLastModified());
+        }
+        return builder.body(gzip ? body.getGzipped() : body.getBody());
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parts = coding.split(";");
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                // "gzip;q=0" explicitly refuses it
+                return !(parts.length > 1 && parts[1].trim().matches("[qQ]\\s*=\\s*0(\\.0*)?"));
+            }
+        }
+        return false;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.portfolio.backend.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ProjectFacetsDto {
+    private long total;
+    private Map<String, Integer> tags = new LinkedHashMap<>();
+    private Map<String, Integer> technologies = new LinkedHashMap<>();
+    
+    // Constructors
+    public ProjectFacetsDto() {
+    }
+    
+    public ProjectFacetsDto(long total, Map<String, Integer> tags, Map<String, Integer> technologies) {
+        this.total = total;
+        this.tags = tags;
+        this.technologies = technologies;
+    }
+    
+    // Getters and Setters
+    public long getTotal() {
+        return total;
+    }
+    
+    public void setTotal(long total) {
+        this.total = total;
+    }
+    
+    /**
+     * Matching projects per tag name, most common first.
+     */
+    public Map<String, Integer> getTags() {
+        return tags;
+    }
+    
+    public void setTags(Map<String, Integer> tags) {
+        this.tags = tags;
+    }
+    
+    /**
+     * Matching projects per technology name, most common first.
+     */
+    public Map<String, Integer> getTechnologies() {
+        return technologies;
+    }
+    
+    public void setTechnologies(Map<String, Integer> technologies) {
+        this.technologies = technologies;
+    }
+}
@@ -0,0 +1,45 @@
+package com.portfolio.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProjectImportResultDto {
+    private int imported;
+    private int rejected;
+    private List<String> errors = new ArrayList<>();
+    
+    // Constructors
+    public ProjectImportResultDto() {
+    }
+    
+    public ProjectImportResultDto(int imported, int rejected, List<String> errors) {
+        this.imported = imported;
+        this.rejected = rejected;
+        this.errors = errors;
+    }
+    
+    // Getters and Setters
+    public int getImported() {
+        return imported;
+    }
+    
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+    
+    public int getRejected() {
+        return rejected;
+    }
+    
+    public void setRejected(int rejected) {
+        this.rejected = rejected;
+    }
+    
+    public List<String> getErrors() {
+        return errors;
+    }
+    
+    public void setErrors(List<String> errors) {
+        this.errors = errors;
+    }
+}
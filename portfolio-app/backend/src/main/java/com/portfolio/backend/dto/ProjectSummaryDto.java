@@ -0,0 +1,86 @@
+package com.portfolio.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProjectSummaryDto {
+    private Long id;
+    private String title;
+    private String slug;
+    private String description;
+    private String thumbnail;
+    private Boolean featured;
+    private List<String> tags = new ArrayList<>();
+    
+    // Constructors
+    public ProjectSummaryDto() {
+    }
+    
+    public ProjectSummaryDto(Long id, String title, String slug, String description, String thumbnail,
+                            Boolean featured, List<String> tags) {
+        this.id = id;
+        this.title = title;
+        this.slug = slug;
+        this.description = description;
+        this.thumbnail = thumbnail;
+        this.featured = featured;
+        this.tags = tags;
+    }
+    
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+    
+    public void setId(Long id) {
+        this.id = id;
+    }
+    
+    public String getTitle() {
+        return title;
+    }
+    
+    public void setTitle(String title) {
+        this.title = title;
+    }
+    
+    public String getSlug() {
+        return slug;
+    }
+    
+    public void setSlug(String slug) {
+        this.slug = slug;
+    }
+    
+    public String getDescription() {
+        return description;
+    }
+    
+    public void setDescription(String description) {
+        this.description = description;
+    }
+    
+    public String getThumbnail() {
+        return thumbnail;
+    }
+    
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+    
+    public Boolean getFeatured() {
+        return featured;
+    }
+    
+    public void setFeatured(Boolean featured) {
+        this.featured = featured;
+    }
+    
+    public List<String> getTags() {
+        return tags;
+    }
+    
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
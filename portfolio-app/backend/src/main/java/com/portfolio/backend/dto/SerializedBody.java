@@ -0,0 +1,64 @@
+package com.portfolio.backend.dto;
+
+import com.portfolio.backend.util.CompressionUtil;
+
+import java.time.ZonedDateTime;
+
+/**
+ * A response body serialized ahead of time, with the validators that go with it and,
+ * when it pays off, a gzipped copy. The byte arrays are shared by every request that
+ * serves them and must never be modified.
+ */
+public class SerializedBody {
+    private final byte[] body;
+    private final byte[] gzipped;
+    private final String etag;
+    private final String gzippedEtag;
+    private final ZonedDateTime lastModified;
+    
+    public SerializedBody(byte[] body, byte[] gzipped, String etag, ZonedDateTime lastModified) {
+        this.body = body;
+        this.gzipped = gzipped;
+        this.etag = etag;
+        // Each encoding is its own representation and needs its own strong validator
+        this.gzippedEtag = gzipped != null ? etag.substring(0, etag.length() - 1) + "-gzip\"" : null;
+        this.lastModified = lastModified;
+    }
+    
+    public static SerializedBody of(byte[] body, String etag, ZonedDateTime lastModified) {
+        return new SerializedBody(body, CompressionUtil.gzipIfSmaller(body), etag, lastModified);
+    }
+    
+    public byte[] getBody() {
+        return body;
+    }
+    
+    /**
+     * The body gzipped, or null when it is too small to be worth compressing.
+     */
+    public byte[] getGzipped() {
+        return gzipped;
+    }
+    
+    public String getEtag() {
+        return etag;
+    }
+    
+    public String getGzippedEtag() {
+        return gzippedEtag;
+    }
+    
+    /**
+     * Most recent updatedAt of the serialized projects, or null when none carry one.
+     */
+    public ZonedDateTime getLastModified() {
+        return lastModified;
+    }
+    
+    /**
+     * Bytes held by this body, for cache weighing.
+     */
+    public int size() {
+        return body.length + (gzipped != null ? gzipped.length : 0);
+    }
+}
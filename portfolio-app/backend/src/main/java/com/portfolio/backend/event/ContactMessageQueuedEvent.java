@@ -0,0 +1,18 @@
+package com.portfolio.backend.event;
+
+/**
+ * Published when a contact form submission has been stored for delivery. The dispatcher
+ * consumes it after commit to start sending without waiting for its next poll.
+ */
+public class ContactMessageQueuedEvent {
+
+    private final Long messageId;
+
+    public ContactMessageQueuedEvent(Long messageId) {
+        this.messageId = messageId;
+    }
+
+    public Long getMessageId() {
+        return messageId;
+    }
+}
@@ -0,0 +1,36 @@
+package com.portfolio.backend.event;
+
+import com.portfolio.backend.dto.ProjectDto;
+
+/**
+ * Published by the project service whenever a project is created, updated or deleted.
+ * Listeners that keep derived state (search index, caches) should consume it after commit.
+ */
+public class ProjectChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    private final ProjectDto project;
+    private final String previousSlug;
+    private final ChangeType changeType;
+
+    public ProjectChangedEvent(ProjectDto project, String previousSlug, ChangeType changeType) {
+        this.project = project;
+        this.previousSlug = previousSlug;
+        this.changeType = changeType;
+    }
+
+    public ProjectDto getProject() {
+        return project;
+    }
+
+    public String getPreviousSlug() {
+        return previousSlug;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+}
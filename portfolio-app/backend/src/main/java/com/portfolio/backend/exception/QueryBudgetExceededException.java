@@ -0,0 +1,12 @@
+package com.portfolio.backend.exception;
+
+/**
+ * Thrown when a request runs more SQL statements than {@code app.profiling.query-budget}
+ * allows, so an N+1 regression fails loudly in development and tests.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(int budget) {
+        super("Request exceeded its query budget of " + budget + " statements");
+    }
+}
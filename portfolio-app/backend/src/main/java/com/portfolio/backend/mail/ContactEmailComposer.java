@@ -0,0 +1,67 @@
+package com.portfolio.backend.mail;
+
+import com.portfolio.backend.model.ContactMessage;
+import com.sendgrid.helpers.mail.Mail;
+import com.sendgrid.helpers.mail.objects.Content;
+import com.sendgrid.helpers.mail.objects.Email;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the notification email sent to the site owner for a contact form submission.
+ */
+@Component
+public class ContactEmailComposer {
+
+    public static final String RECIPIENT = "bduggirala2@huskers.unl.edu";
+
+    @Value("${sendgrid.from.email}")
+    private String fromEmail;
+
+    public Mail compose(ContactMessage message) {
+        Email from = new Email(fromEmail);
+        Email to = new Email(RECIPIENT);
+        String subject = "[Portfolio Contact] " + message.getSubject();
+        Content content = new Content("text/html", composeHtml(message));
+        return new Mail(from, subject, to, content);
+    }
+
+    public String composeHtml(ContactMessage message) {
+        StringBuilder emailContent = new StringBuilder();
+        emailContent.append("<h2>New Contact Form Submission</h2>");
+        emailContent.append("<p><strong>Name:</strong> ").append(message.getName()).append("</p>");
+        
+        if (hasText(message.getCompany())) {
+            emailContent.append("<p><strong>Company:</strong> ").append(message.getCompany()).append("</p>");
+        }
+        
+        emailContent.append("<p><strong>Subject:</strong> ").append(message.getSubject()).append("</p>");
+        
+        emailContent.append("<p><strong>Message:</strong></p>");
+        emailContent.append("<div style='padding: 15px; background-color: #f5f5f5; border-radius: 5px; margin: 10px 0;'>");
+        emailContent.append("<p>").append(message.getMessage().replace("\n", "<br/>")).append("</p>");
+        emailContent.append("</div>");
+        
+        if (Boolean.TRUE.equals(message.getWantsReply())) {
+            emailContent.append("<h3 style='color: #2563eb; margin-top: 20px;'>Contact Details for Reply:</h3>");
+            
+            if (hasText(message.getEmail())) {
+                emailContent.append("<p><strong>Email:</strong> <a href='mailto:").append(message.getEmail()).append("'>")
+                          .append(message.getEmail()).append("</a></p>");
+            }
+            
+            if (hasText(message.getPhone())) {
+                emailContent.append("<p><strong>Phone:</strong> ").append(message.getPhone()).append("</p>");
+            }
+        }
+        return emailContent.toString();
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    public String getFromEmail() {
+        return fromEmail;
+    }
+}
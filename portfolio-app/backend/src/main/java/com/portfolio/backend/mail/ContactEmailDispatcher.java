@@ -0,0 +1,263 @@
+package com.portfolio.backend.mail;
+
+import com.portfolio.backend.event.ContactMessageQueuedEvent;
+import com.portfolio.backend.model.ContactMessage;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.sendgrid.Method;
+import com.sendgrid.Request;
+import com.sendgrid.Response;
+import com.sendgrid.SendGrid;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the contact message outbox. Due messages are claimed a batch at a time and sent
+ * concurrently by a fixed pool of workers sharing one SendGrid client. Throttling (429),
+ * server errors and I/O failures are retried with exponential backoff; other rejections,
+ * and messages that run out of attempts, are parked in status DEAD.
+ * <p>
+ * A drain starts on every queued message (after commit) and on a fixed-delay poll, which
+ * picks up retries and anything left behind by a restart. At most one drain runs at a time.
+ * <p>
+ * Each SendGrid call is timed as {@code sendgrid.requests}, tagged with an outcome in the
+ * style of {@code http.client.requests}; the timer counts double as per-outcome counters.
+ */
+@Component
+public class ContactEmailDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactEmailDispatcher.class);
+    private static final String DUMMY_KEY = "dummy-key-for-development";
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final ContactEmailComposer composer;
+    private final SendGrid sendGrid;
+    private final TaskScheduler taskScheduler;
+    private final ThreadPoolExecutor workers;
+    private final Timer sentTimer;
+    private final Timer throttledTimer;
+    private final Timer rejectedTimer;
+    private final Timer serverErrorTimer;
+    private final Timer ioErrorTimer;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+
+    @Value("${sendgrid.api.key}")
+    private String sendgridApiKey;
+
+    @Value("${contact.dispatch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${contact.dispatch.max-attempts:6}")
+    private int maxAttempts;
+
+    @Value("${contact.dispatch.initial-backoff:30s}")
+    private Duration initialBackoff;
+
+    @Value("${contact.dispatch.max-backoff:1h}")
+    private Duration maxBackoff;
+
+    // How long a claimed message stays invisible to other drains before it is considered lost
+    @Value("${contact.dispatch.lease:2m}")
+    private Duration lease;
+
+    public ContactEmailDispatcher(ContactMessageRepository contactMessageRepository,
+                                  ContactEmailComposer composer,
+                                  SendGrid sendGrid,
+                                  TaskScheduler taskScheduler,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${contact.dispatch.workers:4}") int workerCount) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.composer = composer;
+        this.sendGrid = sendGrid;
+        this.taskScheduler = taskScheduler;
+        this.sentTimer = sendGridTimer(meterRegistry, "SUCCESS");
+        this.throttledTimer = sendGridTimer(meterRegistry, "THROTTLED");
+        this.rejectedTimer = sendGridTimer(meterRegistry, "CLIENT_ERROR");
+        this.serverErrorTimer = sendGridTimer(meterRegistry, "SERVER_ERROR");
+        this.ioErrorTimer = sendGridTimer(meterRegistry, "IO_ERROR");
+        AtomicInteger threadNumber = new AtomicInteger();
+        // The drain loop waits for each batch, so the queue never holds more than one batch;
+        // if it ever fills, the drain thread sends the overflow itself. These stay platform
+        // threads under the virtual profile: Apache HttpClient 4.x connects while holding a
+        // monitor, which would pin a virtual thread for the whole TCP/TLS handshake
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1024),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "contact-dispatch-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @TransactionalEventListener
+    public void onMessageQueued(ContactMessageQueuedEvent event) {
+        taskScheduler.schedule(this::drain, Instant.now());
+    }
+
+    @Scheduled(fixedDelayString = "${contact.dispatch.poll-interval:PT30S}",
+               initialDelayString = "${contact.dispatch.poll-interval:PT30S}")
+    public void poll() {
+        drain();
+    }
+
+    public void drain() {
+        drainRequested.set(true);
+        // Whoever holds the flag loops until no request arrived during its last pass,
+        // so a message committed mid-drain is never left waiting for the next poll
+        while (drainRequested.get() && draining.compareAndSet(false, true)) {
+            try {
+                drainRequested.set(false);
+                int sent;
+                do {
+                    sent = dispatchBatch();
+                } while (sent == batchSize);
+            } catch (RuntimeException e) {
+                logger.error("Contact dispatch pass failed: {}", e.getMessage(), e);
+            } finally {
+                draining.set(false);
+            }
+        }
+    }
+
+    private int dispatchBatch() {
+        ZonedDateTime now = ZonedDateTime.now();
+        List<ContactMessage> due = contactMessageRepository.findDue(now, Limit.of(batchSize));
+        List<Future<?>> inFlight = new ArrayList<>(due.size());
+        for (ContactMessage message : due) {
+            if (contactMessageRepository.claim(message.getId(), now, now.plus(lease)) == 1) {
+                int attempt = message.getAttempts() + 1;
+                inFlight.add(workers.submit(() -> deliver(message, attempt)));
+            }
+        }
+        for (Future<?> future : inFlight) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                logger.error("Contact dispatch worker failed: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+        return due.size();
+    }
+
+    private void deliver(ContactMessage message, int attempt) {
+        if (DUMMY_KEY.equals(sendgridApiKey)) {
+            logger.warn("Running in development mode with dummy SendGrid key. Email will not be sent.");
+            logger.info("Would have sent email with content: Subject='{}', To='{}', From='{}'",
+                    message.getSubject(), ContactEmailComposer.RECIPIENT, composer.getFromEmail());
+            contactMessageRepository.markSent(message.getId(), ZonedDateTime.now());
+            return;
+        }
+
+        try {
+            Request request = new Request();
+            request.setMethod(Method.POST);
+            request.setEndpoint("mail/send");
+            request.setBody(composer.compose(message).build());
+
+            long start = System.nanoTime();
+            Response response;
+            try {
+                response = sendGrid.api(request);
+            } catch (IOException | RuntimeException e) {
+                ioErrorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+            int statusCode = response.getStatusCode();
+            outcomeTimer(statusCode).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (statusCode >= 200 && statusCode < 300) {
+                logger.info("Contact message {} sent (attempt {})", message.getId(), attempt);
+                contactMessageRepository.markSent(message.getId(), ZonedDateTime.now());
+            } else if (statusCode == 429 || statusCode >= 500) {
+                retryOrGiveUp(message, attempt, "SendGrid status " + statusCode + ": " + response.getBody());
+            } else {
+                logger.error("SendGrid rejected contact message {} with status {}: {}",
+                        message.getId(), statusCode, response.getBody());
+                contactMessageRepository.markDead(message.getId(),
+                        truncate("SendGrid status " + statusCode + ": " + response.getBody()));
+            }
+        } catch (IOException | RuntimeException e) {
+            retryOrGiveUp(message, attempt, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+
+    private Timer outcomeTimer(int statusCode) {
+        if (statusCode >= 200 && statusCode < 300) {
+            return sentTimer;
+        }
+        if (statusCode == 429) {
+            return throttledTimer;
+        }
+        return statusCode >= 500 ? serverErrorTimer : rejectedTimer;
+    }
+
+    private static Timer sendGridTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("sendgrid.requests")
+                .description("SendGrid mail/send calls")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private void retryOrGiveUp(ContactMessage message, int attempt, String error) {
+        if (attempt >= maxAttempts) {
+            logger.error("Giving up on contact message {} after {} attempts: {}", message.getId(), attempt, error);
+            contactMessageRepository.markDead(message.getId(), truncate(error));
+            return;
+        }
+        Duration backoff = backoff(attempt);
+        logger.warn("Contact message {} failed (attempt {}), retrying in {}: {}", message.getId(), attempt, backoff, error);
+        contactMessageRepository.reschedule(message.getId(), ZonedDateTime.now().plus(backoff), truncate(error));
+    }
+
+    /**
+     * Exponential backoff with up to 20% jitter so retries after an outage don't arrive together.
+     */
+    Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt - 1, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        long jitter = ThreadLocalRandom.current().nextLong(capped / 5 + 1);
+        return Duration.ofMillis(capped - jitter);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        workers.shutdown();
+        workers.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,124 @@
+package com.portfolio.backend.mapper;
+
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.ProjectImageDto;
+import com.portfolio.backend.dto.TagDto;
+import com.portfolio.backend.dto.TechnologyDto;
+import com.portfolio.backend.dto.VideoDto;
+import com.portfolio.backend.model.Project;
+import com.portfolio.backend.model.ProjectImage;
+import com.portfolio.backend.model.Tag;
+import com.portfolio.backend.model.Technology;
+import com.portfolio.backend.model.User;
+import com.portfolio.backend.model.Video;
+import com.portfolio.backend.profiling.RequestProfile;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+public class ProjectMapper {
+
+    public ProjectDto toDto(Project project) {
+        return toDto(project, true);
+    }
+
+    /**
+     * Same as {@link #toDto(Project)} but without {@code content}: lists only show the card,
+     * and reading the lazy body would cost a select per project.
+     */
+    public ProjectDto toListDto(Project project) {
+        return toDto(project, false);
+    }
+
+    private ProjectDto toDto(Project project, boolean withContent) {
+        long start = System.nanoTime();
+        ProjectDto projectDto = new ProjectDto();
+        projectDto.setId(project.getId());
+        projectDto.setTitle(project.getTitle());
+        projectDto.setSlug(project.getSlug());
+        projectDto.setDescription(project.getDescription());
+        if (withContent) {
+            projectDto.setContent(project.getContent());
+        }
+        projectDto.setThumbnail(project.getThumbnail());
+        projectDto.setGithubUrl(project.getGithubUrl());
+        projectDto.setLiveUrl(project.getLiveUrl());
+        projectDto.setFeatured(project.getFeatured());
+        projectDto.setPublished(project.getPublished());
+        projectDto.setCreatedAt(project.getCreatedAt());
+        projectDto.setUpdatedAt(project.getUpdatedAt());
+
+        User user = project.getUser();
+        if (user != null) {
+            projectDto.setUserId(user.getId());
+            projectDto.setUsername(user.getUsername());
+        }
+
+        Set<TechnologyDto> technologies = new HashSet<>();
+        for (Technology technology : project.getTechnologies()) {
+            technologies.add(toDto(technology));
+        }
+        projectDto.setTechnologies(technologies);
+
+        Set<TagDto> tags = new HashSet<>();
+        for (Tag tag : project.getTags()) {
+            tags.add(toDto(tag));
+        }
+        projectDto.setTags(tags);
+
+        Set<VideoDto> videos = new HashSet<>();
+        for (Video video : project.getVideos()) {
+            videos.add(toDto(video, project.getId()));
+        }
+        projectDto.setVideos(videos);
+
+        Set<ProjectImageDto> images = new HashSet<>();
+        for (ProjectImage image : project.getImages()) {
+            images.add(toDto(image, project.getId()));
+        }
+        projectDto.setImages(images);
+
+        RequestProfile.recordMapping(System.nanoTime() - start);
+        return projectDto;
+    }
+
+    public TechnologyDto toDto(Technology technology) {
+        return new TechnologyDto(technology.getId(), technology.getName(), technology.getIcon());
+    }
+
+    public TagDto toDto(Tag tag) {
+        return new TagDto(tag.getId(), tag.getName());
+    }
+
+    public VideoDto toDto(Video video, Long projectId) {
+        return new VideoDto(video.getId(), video.getTitle(), video.getUrl(), video.getThumbnail(),
+                video.getDescription(), video.getOrderIndex(), video.getCreatedAt(), video.getUpdatedAt(), projectId);
+    }
+
+    public ProjectImageDto toDto(ProjectImage image, Long projectId) {
+        return new ProjectImageDto(image.getId(), image.getUrl(), image.getAltText(), image.getOrderIndex(),
+                image.getCreatedAt(), projectId);
+    }
+
+    public Video toEntity(VideoDto videoDto, Project project) {
+        Video video = new Video();
+        video.setTitle(videoDto.getTitle());
+        video.setUrl(videoDto.getUrl());
+        video.setThumbnail(videoDto.getThumbnail());
+        video.setDescription(videoDto.getDescription());
+        video.setOrderIndex(videoDto.getOrderIndex() != null ? videoDto.getOrderIndex() : 0);
+        video.setProject(project);
+        return video;
+    }
+
+    public ProjectImage toEntity(ProjectImageDto imageDto, Project project) {
+        ProjectImage image = new ProjectImage();
+        image.setUrl(imageDto.getUrl());
+        image.setAltText(imageDto.getAltText());
+        image.setOrderIndex(imageDto.getOrderIndex() != null ? imageDto.getOrderIndex() : 0);
+        image.setProject(project);
+        return image;
+    }
+}
@@ -11,7 +11,8 @@ import java.time.ZonedDateTime;
 public class ProjectImage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_images_seq")
+    @SequenceGenerator(name = "project_images_seq", sequenceName = "project_images_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
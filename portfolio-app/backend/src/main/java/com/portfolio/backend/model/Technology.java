@@ -12,7 +12,8 @@ import java.util.Set;
 public class Technology {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "technologies_seq")
+    @SequenceGenerator(name = "technologies_seq", sequenceName = "technologies_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
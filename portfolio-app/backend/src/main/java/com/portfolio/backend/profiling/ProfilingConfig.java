@@ -0,0 +1,104 @@
+package com.portfolio.backend.profiling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.hibernate.Interceptor;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.Type;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Feeds {@link RequestProfile}: the DataSource is wrapped in a proxy that counts and times
+ * every statement (and enforces {@code app.profiling.query-budget}), a Hibernate interceptor
+ * counts entity loads, and the Jackson message converter times the bodies it writes. Bodies
+ * served from {@code ProjectBodyCache} and DTO mapping are timed where they happen.
+ * <p>
+ * Nothing here is created unless {@code app.profiling.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class ProfilingConfig {
+
+    private static final String DATA_SOURCE_BEAN = "dataSource";
+
+    @Bean
+    public static BeanPostProcessor profilingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // Only the DataSource the application uses; pools behind a routing DataSource
+                // are reached through it and would count every statement twice
+                if (!(bean instanceof DataSource dataSource) || !DATA_SOURCE_BEAN.equals(beanName)) {
+                    return bean;
+                }
+                // The proxy unwraps to the pool, so Hikari metrics and health still bind
+                return ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .beforeQuery((execution, queries) -> RequestProfile.recordStatementStart())
+                        .afterQuery((execution, queries) -> RequestProfile.recordStatementEnd())
+                        .build();
+            }
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer profilingInterceptorCustomizer() {
+        return properties -> properties.put(AvailableSettings.INTERCEPTOR, new EntityLoadCounter());
+    }
+
+    @Bean
+    public WebMvcConfigurer profilingMessageConverters(ObjectMapper objectMapper) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                converters.replaceAll(converter -> converter.getClass() == MappingJackson2HttpMessageConverter.class
+                        ? new TimedJacksonConverter(objectMapper)
+                        : converter);
+            }
+        };
+    }
+
+    static class EntityLoadCounter implements Interceptor {
+
+        @Override
+        public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+            RequestProfile.recordEntityLoad();
+            return false;
+        }
+    }
+
+    /**
+     * Times {@code writeInternal}. A body larger than the response buffer starts going out
+     * while it is being written, so for those the time also includes some network writes.
+     */
+    static class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+        TimedJacksonConverter(ObjectMapper objectMapper) {
+            super(objectMapper);
+        }
+
+        @Override
+        protected void writeInternal(Object object, java.lang.reflect.Type type, HttpOutputMessage outputMessage)
+                throws IOException, HttpMessageNotWritableException {
+            long start = System.nanoTime();
+            try {
+                super.writeInternal(object, type, outputMessage);
+            } finally {
+                RequestProfile.recordSerialization(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.portfolio.backend.profiling;
+
+import com.portfolio.backend.exception.QueryBudgetExceededException;
+
+import java.util.Locale;
+
+/**
+ * Where one request's time went: JDBC statements and their time, entities Hibernate loaded,
+ * time spent mapping entities to DTOs and serializing responses. A profile is bound to the
+ * request thread by {@link RequestProfilingFilter}; work on other threads (the hashing
+ * pool, background rebuilds) is not attributed to any request.
+ * <p>
+ * The static {@code record*} methods are no-ops when the current thread has no profile, so
+ * instrumented code can call them unconditionally.
+ */
+public class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final int queryBudget;
+
+    private int statements;
+    private long statementStartNanos;
+    private long jdbcNanos;
+    private int entityLoads;
+    private long mappingNanos;
+    private long serializationNanos;
+
+    RequestProfile(int queryBudget) {
+        this.queryBudget = queryBudget;
+    }
+
+    static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static void bind(RequestProfile profile) {
+        CURRENT.set(profile);
+    }
+
+    static void unbind() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Called before each statement executes.
+     *
+     * @throws QueryBudgetExceededException if a query budget is set and this statement
+     *                                      goes over it
+     */
+    static void recordStatementStart() {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.statements++;
+            if (profile.queryBudget > 0 && profile.statements > profile.queryBudget) {
+                throw new QueryBudgetExceededException(profile.queryBudget);
+            }
+            profile.statementStartNanos = System.nanoTime();
+        }
+    }
+
+    /**
+     * Called after each statement executes. JDBC calls on one thread never overlap, so the
+     * start recorded by {@link #recordStatementStart()} belongs to this statement.
+     */
+    static void recordStatementEnd() {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null && profile.statementStartNanos != 0) {
+            profile.jdbcNanos += System.nanoTime() - profile.statementStartNanos;
+            profile.statementStartNanos = 0;
+        }
+    }
+
+    static void recordEntityLoad() {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.entityLoads++;
+        }
+    }
+
+    public static void recordMapping(long nanos) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.mappingNanos += nanos;
+        }
+    }
+
+    public static void recordSerialization(long nanos) {
+        RequestProfile profile = CURRENT.get();
+        if (profile != null) {
+            profile.serializationNanos += nanos;
+        }
+    }
+
+    /**
+     * The profile so far as a {@code Server-Timing} value. Mapping time includes any lazy
+     * loading it triggers, so {@code db} and {@code map} can overlap.
+     */
+    String toServerTiming() {
+        return String.format(Locale.ROOT,
+                "db;dur=%.2f;desc=\"%d statements\", entities;desc=\"%d loaded\", map;dur=%.2f, ser;dur=%.2f, app;dur=%.2f",
+                millis(jdbcNanos), statements, entityLoads, millis(mappingNanos), millis(serializationNanos),
+                millis(System.nanoTime() - startNanos));
+    }
+
+    /**
+     * The profile as {@code key=value} pairs for a structured log line.
+     */
+    String toLogFields() {
+        return String.format(Locale.ROOT,
+                "statements=%d jdbc_ms=%.2f entities=%d map_ms=%.2f ser_ms=%.2f total_ms=%.2f",
+                statements, millis(jdbcNanos), entityLoads, millis(mappingNanos), millis(serializationNanos),
+                millis(System.nanoTime() - startNanos));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
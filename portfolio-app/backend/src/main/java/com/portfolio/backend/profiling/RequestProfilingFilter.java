@@ -0,0 +1,184 @@
+package com.portfolio.backend.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Binds a {@link RequestProfile} to each request and reports it in a {@code Server-Timing}
+ * header, plus a log line per request when {@code app.profiling.log-requests} is set.
+ * {@code app.profiling.query-budget}, when positive, caps the statements a GET or HEAD
+ * request may run; going over fails the request with a {@code QueryBudgetExceededException}.
+ * <p>
+ * Headers can only be added until the response commits, so the header carries the profile as
+ * it stood when the first body byte went out: complete for bodies written in one go, partial
+ * for large streamed ones. The log line is written after the request and always has the full
+ * numbers. This filter runs outermost, so bodies held back by {@code CompressionThresholdFilter}
+ * commit, and get their header, only once they are complete.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.profiling.enabled", havingValue = "true")
+public class RequestProfilingFilter extends OncePerRequestFilter {
+
+    static final String SERVER_TIMING = "Server-Timing";
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestProfilingFilter.class);
+
+    private final int queryBudget;
+    private final boolean logRequests;
+
+    public RequestProfilingFilter(@Value("${app.profiling.query-budget:0}") int queryBudget,
+                                  @Value("${app.profiling.log-requests:false}") boolean logRequests) {
+        this.queryBudget = queryBudget;
+        this.logRequests = logRequests;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        // Writes (bulk imports especially) legitimately run many statements; the budget is for reads
+        boolean read = HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+        RequestProfile profile = new RequestProfile(read ? queryBudget : 0);
+        ProfiledResponse profiledResponse = new ProfiledResponse(response, profile);
+        RequestProfile.bind(profile);
+        try {
+            filterChain.doFilter(request, profiledResponse);
+        } finally {
+            RequestProfile.unbind();
+            profiledResponse.addServerTiming();
+            if (logRequests) {
+                logger.info("profile method={} uri={} status={} {}", request.getMethod(), request.getRequestURI(),
+                        response.getStatus(), profile.toLogFields());
+            }
+        }
+    }
+
+    private static class ProfiledResponse extends HttpServletResponseWrapper {
+
+        private final RequestProfile profile;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean timingAdded;
+
+        ProfiledResponse(HttpServletResponse response, RequestProfile profile) {
+            super(response);
+            this.profile = profile;
+        }
+
+        void addServerTiming() {
+            if (!timingAdded) {
+                timingAdded = true;
+                if (!isCommitted()) {
+                    setHeader(SERVER_TIMING, profile.toServerTiming());
+                }
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new ProfiledOutputStream(getResponse().getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            addServerTiming();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            addServerTiming();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            addServerTiming();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            addServerTiming();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void reset() {
+            super.reset();
+            timingAdded = false;
+        }
+
+        private class ProfiledOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            ProfiledOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                addServerTiming();
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                addServerTiming();
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                addServerTiming();
+                delegate.flush();
+            }
+
+            @Override
+            public void close() throws IOException {
+                addServerTiming();
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                delegate.setWriteListener(writeListener);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.portfolio.backend.ratelimit;
+
+import com.portfolio.backend.exception.RateLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Throttles contact form submissions per client IP and per sender email address, so a
+ * single source can neither flood the outbox nor burn the SendGrid quota.
+ */
+@Component
+public class ContactRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ContactRateLimiter.class);
+
+    private final TokenBucketRateLimiter perIp;
+    private final TokenBucketRateLimiter perEmail;
+
+    public ContactRateLimiter(@Value("${contact.rate-limit.per-ip.capacity:5}") int ipCapacity,
+                              @Value("${contact.rate-limit.per-ip.period:PT10M}") Duration ipPeriod,
+                              @Value("${contact.rate-limit.per-email.capacity:3}") int emailCapacity,
+                              @Value("${contact.rate-limit.per-email.period:PT1H}") Duration emailPeriod,
+                              @Value("${contact.rate-limit.max-keys:100000}") int maxKeys) {
+        this.perIp = new TokenBucketRateLimiter(ipCapacity, ipPeriod, maxKeys);
+        this.perEmail = new TokenBucketRateLimiter(emailCapacity, emailPeriod, maxKeys);
+    }
+
+    public void checkClient(String clientIp) {
+        long wait = perIp.tryAcquire(clientIp);
+        if (wait > 0) {
+            logger.warn("Contact rate limit exceeded for client {}", clientIp);
+            throw new RateLimitExceededException("Too many messages, please try again later", Duration.ofNanos(wait));
+        }
+    }
+
+    public void checkEmail(String email) {
+        if (email == null || email.isBlank()) {
+            return;
+        }
+        long wait = perEmail.tryAcquire(email.trim().toLowerCase(Locale.ROOT));
+        if (wait > 0) {
+            logger.warn("Contact rate limit exceeded for sender email");
+            throw new RateLimitExceededException("Too many messages, please try again later", Duration.ofNanos(wait));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${contact.rate-limit.eviction-interval:PT1M}")
+    public void evictIdle() {
+        perIp.evictIdle();
+        perEmail.evictIdle();
+    }
+}
@@ -0,0 +1,101 @@
+package com.portfolio.backend.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory token bucket per key, e.g. "5 requests per 10 minutes per client IP".
+ * <p>
+ * Each bucket is a single {@link AtomicLong} holding the bucket's theoretical arrival time
+ * (the GCRA formulation of a token bucket): taking a token pushes it forward by one refill
+ * interval, and the request is allowed while it stays within {@code capacity} intervals of
+ * now. Acquiring is one map lookup and a CAS, with no locks and no allocation for known keys.
+ * <p>
+ * Keys are spread over independently swept map stripes. A bucket whose arrival time has
+ * passed is full again and carries no state, so {@link #evictIdle()} drops it without
+ * changing any future decision.
+ */
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 16;
+
+    private final ConcurrentHashMap<String, AtomicLong>[] stripes;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final int maxKeysPerStripe;
+
+    @SuppressWarnings("unchecked")
+    public TokenBucketRateLimiter(int capacity, Duration refillPeriod, int maxKeys) {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Rate limit needs a positive capacity and refill period");
+        }
+        this.intervalNanos = refillPeriod.toNanos() / capacity;
+        this.burstNanos = intervalNanos * capacity;
+        this.maxKeysPerStripe = Math.max(1, maxKeys / STRIPES);
+        this.stripes = new ConcurrentHashMap[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * Takes one token for the key.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key) {
+        long now = System.nanoTime();
+        ConcurrentHashMap<String, AtomicLong> stripe = stripeFor(key);
+        AtomicLong bucket = stripe.get(key);
+        if (bucket == null) {
+            if (stripe.size() >= maxKeysPerStripe) {
+                evictIdle(stripe, now);
+                if (stripe.size() >= maxKeysPerStripe) {
+                    // Key flood (e.g. rotating addresses): refuse untracked keys rather than grow
+                    return intervalNanos;
+                }
+            }
+            bucket = stripe.computeIfAbsent(key, k -> new AtomicLong(now));
+        }
+
+        while (true) {
+            long arrival = bucket.get();
+            long next = Math.max(arrival, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Removes buckets that have refilled completely; call periodically.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            evictIdle(stripe, now);
+        }
+    }
+
+    private static void evictIdle(ConcurrentHashMap<String, AtomicLong> stripe, long now) {
+        stripe.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    public int size() {
+        int size = 0;
+        for (ConcurrentHashMap<String, AtomicLong> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    private ConcurrentHashMap<String, AtomicLong> stripeFor(String key) {
+        int hash = key.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+}
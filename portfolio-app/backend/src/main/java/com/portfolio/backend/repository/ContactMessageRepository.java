@@ -0,0 +1,44 @@
+package com.portfolio.backend.repository;
+
+import com.portfolio.backend.model.ContactMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+
+@Repository
+public interface ContactMessageRepository extends JpaRepository<ContactMessage, Long> {
+    
+    // SENDING rows whose lease has expired (e.g. after a crash mid-send) are picked up again
+    @Query("SELECT m FROM ContactMessage m WHERE m.status IN ('PENDING', 'SENDING') AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt ASC")
+    List<ContactMessage> findDue(ZonedDateTime now, Limit limit);
+    
+    List<ContactMessage> findByStatusOrderByCreatedAtDesc(ContactMessage.Status status);
+    
+    // Pushing nextAttemptAt past now makes the claim exclusive: a concurrent claimer matches no row
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContactMessage m SET m.status = 'SENDING', m.attempts = m.attempts + 1, m.nextAttemptAt = :leaseUntil " +
+           "WHERE m.id = :id AND m.status IN ('PENDING', 'SENDING') AND m.nextAttemptAt <= :now")
+    int claim(Long id, ZonedDateTime now, ZonedDateTime leaseUntil);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContactMessage m SET m.status = 'SENT', m.sentAt = :sentAt, m.lastError = null WHERE m.id = :id")
+    int markSent(Long id, ZonedDateTime sentAt);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContactMessage m SET m.status = 'PENDING', m.nextAttemptAt = :nextAttemptAt, m.lastError = :error WHERE m.id = :id")
+    int reschedule(Long id, ZonedDateTime nextAttemptAt, String error);
+    
+    @Transactional
+    @Modifying
+    @Query("UPDATE ContactMessage m SET m.status = 'DEAD', m.lastError = :error WHERE m.id = :id")
+    int markDead(Long id, String error);
+}
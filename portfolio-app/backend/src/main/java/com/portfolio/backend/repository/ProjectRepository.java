@@ -1,27 +1,103 @@
 package com.portfolio.backend.repository;
 
 import com.portfolio.backend.model.Project;
+import com.portfolio.backend.repository.projection.ProjectOrderView;
+import com.portfolio.backend.repository.projection.ProjectSearchTextView;
+import com.portfolio.backend.repository.projection.ProjectSummaryView;
+import com.portfolio.backend.repository.projection.ProjectTagNameView;
+import com.portfolio.backend.repository.projection.ProjectTechnologyNameView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
+    // content is lazy; the detail page needs it, so it comes in the same select
+    @EntityGraph(attributePaths = {"user", "content"})
     Optional<Project> findBySlug(String slug);
     
+    Boolean existsBySlug(String slug);
+    
+    @Query("SELECT p.slug FROM Project p WHERE p.slug IN :slugs")
+    List<String> findExistingSlugs(Collection<String> slugs);
+    
+    // Superset of the slugs derived from a base ('_' is also a LIKE wildcard), for probing in memory
+    @Query("SELECT p.slug FROM Project p WHERE p.slug LIKE CONCAT(:baseSlug, '-%')")
+    List<String> findSlugsWithPrefix(String baseSlug);
+    
+    @Override
+    @EntityGraph(attributePaths = "user")
+    Page<Project> findAll(Pageable pageable);
+    
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Project p WHERE p.published = true ORDER BY p.createdAt DESC")
     Page<Project> findAllPublishedProjects(Pageable pageable);
     
+    @EntityGraph(attributePaths = "user")
     @Query("SELECT p FROM Project p WHERE p.published = true AND p.featured = true ORDER BY p.createdAt DESC")
     List<Project> findFeaturedProjects();
     
-    @Query("SELECT p FROM Project p WHERE p.published = true AND p.title LIKE %:keyword% OR p.description LIKE %:keyword% OR p.content LIKE %:keyword%")
+    // Keyset pagination over (createdAt, id): no offset scan and no count query
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Project p WHERE (:onlyPublished = false OR p.published = true) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findFirstByCreatedAt(boolean onlyPublished, Limit limit);
+    
+    @EntityGraph(attributePaths = "user")
+    @Query("SELECT p FROM Project p WHERE (:onlyPublished = false OR p.published = true) " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Project> findNextByCreatedAt(boolean onlyPublished, ZonedDateTime createdAt, Long id, Limit limit);
+    
+    @Override
+    @EntityGraph(attributePaths = "user")
+    List<Project> findAllById(Iterable<Long> ids);
+    
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.content AS content " +
+           "FROM Project p WHERE p.published = true")
+    Slice<ProjectSearchTextView> findSearchTexts(Pageable pageable);
+    
+    @Query("SELECT p FROM Project p WHERE p.published = true AND (p.title LIKE %:keyword% OR p.description LIKE %:keyword% OR p.content LIKE %:keyword%)")
     Page<Project> searchProjects(String keyword, Pageable pageable);
     
     Page<Project> findAllByUserId(Long userId, Pageable pageable);
-} 
\ No newline at end of file
+    
+    @Query(value = "SELECT p.id AS id, p.title AS title, p.slug AS slug, p.description AS description, " +
+                   "p.thumbnail AS thumbnail, p.featured AS featured FROM Project p " +
+                   "WHERE (:onlyPublished = false OR p.published = true) ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Project p WHERE (:onlyPublished = false OR p.published = true)")
+    Page<ProjectSummaryView> findProjectSummaries(boolean onlyPublished, Pageable pageable);
+    
+    @Query("SELECT p.id AS projectId, t.name AS name FROM Project p JOIN p.tags t WHERE p.id IN :projectIds")
+    List<ProjectTagNameView> findTagNamesByProjectIds(Collection<Long> projectIds);
+    
+    // Scalar scans that rebuild the facet index without loading any entity
+    @Query("SELECT p.id AS id, p.createdAt AS createdAt, p.published AS published FROM Project p")
+    List<ProjectOrderView> findOrderViews();
+    
+    @Query("SELECT p.id AS projectId, t.name AS name FROM Project p JOIN p.tags t")
+    List<ProjectTagNameView> findAllTagNames();
+    
+    @Query("SELECT p.id AS projectId, t.name AS name FROM Project p JOIN p.technologies t")
+    List<ProjectTechnologyNameView> findAllTechnologyNames();
+    
+    // Forward-only cursor for exports; must be consumed and closed inside a transaction
+    @EntityGraph(attributePaths = {"user", "content"})
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p FROM Project p ORDER BY p.id")
+    Stream<Project> streamAllOrderById();
+}
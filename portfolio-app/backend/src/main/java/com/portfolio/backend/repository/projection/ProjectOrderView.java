@@ -0,0 +1,9 @@
+package com.portfolio.backend.repository.projection;
+
+import java.time.ZonedDateTime;
+
+public interface ProjectOrderView {
+    Long getId();
+    ZonedDateTime getCreatedAt();
+    Boolean getPublished();
+}
@@ -0,0 +1,8 @@
+package com.portfolio.backend.repository.projection;
+
+public interface ProjectSearchTextView {
+    Long getId();
+    String getTitle();
+    String getDescription();
+    String getContent();
+}
@@ -0,0 +1,10 @@
+package com.portfolio.backend.repository.projection;
+
+public interface ProjectSummaryView {
+    Long getId();
+    String getTitle();
+    String getSlug();
+    String getDescription();
+    String getThumbnail();
+    Boolean getFeatured();
+}
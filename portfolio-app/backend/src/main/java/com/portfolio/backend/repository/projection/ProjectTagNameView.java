@@ -0,0 +1,6 @@
+package com.portfolio.backend.repository.projection;
+
+public interface ProjectTagNameView {
+    Long getProjectId();
+    String getName();
+}
@@ -0,0 +1,6 @@
+package com.portfolio.backend.repository.projection;
+
+public interface ProjectTechnologyNameView {
+    Long getProjectId();
+    String getName();
+}
@@ -0,0 +1,324 @@
+package com.portfolio.backend.search;
+
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.ProjectFacetsDto;
+import com.portfolio.backend.dto.TagDto;
+import com.portfolio.backend.dto.TechnologyDto;
+import com.portfolio.backend.event.ProjectChangedEvent;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.projection.ProjectOrderView;
+import com.portfolio.backend.repository.projection.ProjectTagNameView;
+import com.portfolio.backend.repository.projection.ProjectTechnologyNameView;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Project-id bitmaps per tag and per technology, mirroring {@code project_tags} and
+ * {@code project_technologies}, so filtering by tag/technology and counting facets are
+ * bitmap operations that never touch the database.
+ *
+ * <p>Within the tags and within the technologies of a filter, {@code matchAll} intersects
+ * the selected bitmaps and otherwise unions them; the two groups are always intersected.
+ * Filtered results come back in the listing's order: newest first by creation time, then
+ * by id. Ids alone aren't enough, since each instance takes ids from the sequences in blocks
+ * of 50. Names match case-insensitively, like the taxonomy itself.
+ *
+ * <p>Built from three scalar queries at startup and kept current from
+ * {@link ProjectChangedEvent}s after commit.
+ */
+@Component
+public class ProjectFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectFacetIndex.class);
+
+    // created_at DESC, id DESC, as in the listing queries; descending puts a missing created_at last
+    private static final Comparator<Filing> NEWEST_FIRST = Comparator
+            .comparing((Filing filing) -> filing.createdAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparingInt(filing -> filing.projectId)
+            .reversed();
+
+    private final ProjectRepository projectRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final RoaringBitmap allProjects = new RoaringBitmap();
+    private final RoaringBitmap publishedProjects = new RoaringBitmap();
+    private final Map<String, Facet> tags = new HashMap<>();
+    private final Map<String, Facet> technologies = new HashMap<>();
+    // Facet keys each project is filed under, so an update or delete can unfile it
+    private final Map<Integer, Filing> filings = new HashMap<>();
+    // The same filings in listing order, to page through a selection
+    private final NavigableSet<Filing> newestFirst = new TreeSet<>(NEWEST_FIRST);
+
+    private volatile boolean ready;
+
+    public ProjectFacetIndex(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            allProjects.clear();
+            publishedProjects.clear();
+            tags.clear();
+            technologies.clear();
+            filings.clear();
+            newestFirst.clear();
+
+            for (ProjectOrderView row : projectRepository.findOrderViews()) {
+                int id = toInt(row.getId());
+                allProjects.add(id);
+                if (Boolean.TRUE.equals(row.getPublished())) {
+                    publishedProjects.add(id);
+                }
+                add(new Filing(id, row.getCreatedAt()));
+            }
+            // A project committed after the first scan is skipped; its change event, queued
+            // behind this write lock, files it
+            for (ProjectTagNameView row : projectRepository.findAllTagNames()) {
+                Filing filing = filings.get(toInt(row.getProjectId()));
+                if (filing != null) {
+                    filing.tagKeys.add(file(tags, row.getName(), filing.projectId));
+                }
+            }
+            for (ProjectTechnologyNameView row : projectRepository.findAllTechnologyNames()) {
+                Filing filing = filings.get(toInt(row.getProjectId()));
+                if (filing != null) {
+                    filing.technologyKeys.add(file(technologies, row.getName(), filing.projectId));
+                }
+            }
+
+            // Bulk-loaded bitmaps compress noticeably better once run containers are chosen
+            allProjects.runOptimize();
+            publishedProjects.runOptimize();
+            tags.values().forEach(facet -> facet.projects.runOptimize());
+            technologies.values().forEach(facet -> facet.projects.runOptimize());
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Facet index built with {} projects, {} tags and {} technologies in {} ms",
+                allProjects.getCardinality(), tags.size(), technologies.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDto project = event.getProject();
+        int id = toInt(project.getId());
+        lock.writeLock().lock();
+        try {
+            unfile(id);
+            if (event.getChangeType() != ProjectChangedEvent.ChangeType.DELETED) {
+                allProjects.add(id);
+                if (Boolean.TRUE.equals(project.getPublished())) {
+                    publishedProjects.add(id);
+                }
+                Filing filing = new Filing(id, project.getCreatedAt());
+                if (project.getTags() != null) {
+                    for (TagDto tag : project.getTags()) {
+                        filing.tagKeys.add(file(tags, tag.getName(), id));
+                    }
+                }
+                if (project.getTechnologies() != null) {
+                    for (TechnologyDto technology : project.getTechnologies()) {
+                        filing.technologyKeys.add(file(technologies, technology.getName(), id));
+                    }
+                }
+                add(filing);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * One page of the projects matching the filter, newest first. The page is found by
+     * walking all projects in that order, so it costs time in proportion to its offset.
+     */
+    public SearchResult filter(Collection<String> tagNames, Collection<String> technologyNames, boolean matchAll,
+                               boolean onlyPublished, int offset, int limit) {
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            RoaringBitmap selection = select(tagNames, technologyNames, matchAll, onlyPublished);
+            int total = selection.getCardinality();
+            List<Long> page = new ArrayList<>(Math.max(0, Math.min(limit, total - offset)));
+            int toSkip = offset;
+            for (Filing filing : newestFirst) {
+                if (page.size() >= limit || toSkip >= total) {
+                    break;
+                }
+                if (selection.contains(filing.projectId)) {
+                    if (toSkip > 0) {
+                        toSkip--;
+                    } else {
+                        page.add((long) filing.projectId);
+                    }
+                }
+            }
+            return new SearchResult(total, page);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of matching projects per tag and per technology, for the projects matching
+     * the filter (all projects when it is empty). Facets with no match are left out.
+     */
+    public ProjectFacetsDto facets(Collection<String> tagNames, Collection<String> technologyNames, boolean matchAll,
+                                   boolean onlyPublished) {
+        ensureBuilt();
+        lock.readLock().lock();
+        try {
+            RoaringBitmap selection = select(tagNames, technologyNames, matchAll, onlyPublished);
+            return new ProjectFacetsDto(selection.getCardinality(),
+                    counts(tags, selection), counts(technologies, selection));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureBuilt() {
+        if (!ready) {
+            // A request that beats the startup build does it itself
+            rebuild();
+        }
+    }
+
+    private RoaringBitmap select(Collection<String> tagNames, Collection<String> technologyNames,
+                                 boolean matchAll, boolean onlyPublished) {
+        RoaringBitmap selection = (onlyPublished ? publishedProjects : allProjects).clone();
+        if (tagNames != null && !tagNames.isEmpty()) {
+            selection.and(combine(tags, tagNames, matchAll));
+        }
+        if (technologyNames != null && !technologyNames.isEmpty()) {
+            selection.and(combine(technologies, technologyNames, matchAll));
+        }
+        return selection;
+    }
+
+    private static RoaringBitmap combine(Map<String, Facet> facets, Collection<String> names, boolean matchAll) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>(names.size());
+        for (String name : names) {
+            Facet facet = facets.get(key(name));
+            if (facet != null) {
+                bitmaps.add(facet.projects);
+            } else if (matchAll) {
+                // An unknown name can't be matched, so neither can all of them
+                return new RoaringBitmap();
+            }
+        }
+        if (bitmaps.isEmpty()) {
+            return new RoaringBitmap();
+        }
+        return matchAll
+                ? FastAggregation.and(bitmaps.iterator())
+                : FastAggregation.or(bitmaps.iterator());
+    }
+
+    private static Map<String, Integer> counts(Map<String, Facet> facets, RoaringBitmap selection) {
+        List<Map.Entry<String, Integer>> counts = new ArrayList<>();
+        for (Facet facet : facets.values()) {
+            int count = RoaringBitmap.andCardinality(facet.projects, selection);
+            if (count > 0) {
+                counts.add(Map.entry(facet.name, count));
+            }
+        }
+        counts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.comparing((String name) -> name.toLowerCase(Locale.ROOT)))));
+        Map<String, Integer> ordered = new LinkedHashMap<>();
+        for (Map.Entry<String, Integer> count : counts) {
+            ordered.put(count.getKey(), count.getValue());
+        }
+        return ordered;
+    }
+
+    private static String file(Map<String, Facet> facets, String name, int projectId) {
+        String key = key(name);
+        facets.computeIfAbsent(key, k -> new Facet(name)).projects.add(projectId);
+        return key;
+    }
+
+    private void add(Filing filing) {
+        filings.put(filing.projectId, filing);
+        newestFirst.add(filing);
+    }
+
+    private void unfile(int projectId) {
+        allProjects.remove(projectId);
+        publishedProjects.remove(projectId);
+        Filing filing = filings.remove(projectId);
+        if (filing != null) {
+            newestFirst.remove(filing);
+            unfile(tags, filing.tagKeys, projectId);
+            unfile(technologies, filing.technologyKeys, projectId);
+        }
+    }
+
+    private static void unfile(Map<String, Facet> facets, List<String> keys, int projectId) {
+        for (String key : keys) {
+            Facet facet = facets.get(key);
+            if (facet != null) {
+                facet.projects.remove(projectId);
+                if (facet.projects.isEmpty()) {
+                    facets.remove(key);
+                }
+            }
+        }
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    // Bitmaps hold ints: an id past Integer.MAX_VALUE (2^31 - 1) fails here instead of aliasing
+    // another project. At 50 ids per sequence block that is some 43 million blocks away.
+    private static int toInt(Long projectId) {
+        return Math.toIntExact(projectId);
+    }
+
+    private static class Facet {
+        private final String name;
+        private final RoaringBitmap projects = new RoaringBitmap();
+
+        Facet(String name) {
+            this.name = name;
+        }
+    }
+
+    private static class Filing {
+        private final int projectId;
+        // Compared as instants: the database and the change events may carry different zones
+        private final Instant createdAt;
+        private final List<String> tagKeys = new ArrayList<>(4);
+        private final List<String> technologyKeys = new ArrayList<>(4);
+
+        Filing(int projectId, ZonedDateTime createdAt) {
+            this.projectId = projectId;
+            this.createdAt = createdAt != null ? createdAt.toInstant() : null;
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.portfolio.backend.search;
+
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.event.ProjectChangedEvent;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.repository.projection.ProjectSearchTextView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over published projects, ranked with BM25.
+ *
+ * <p>Title, description and content are indexed as one weighted field (title and description
+ * terms count more). The last query term also matches as a prefix, and terms with no exact
+ * match fall back to single-edit typo matching through a deletion-neighbourhood dictionary,
+ * so no query ever scans the whole vocabulary.
+ *
+ * <p>Updates tombstone the previous document ordinal and append a new one; postings are
+ * compacted once tombstones outnumber live documents.
+ */
+@Component
+public class ProjectSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProjectSearchIndex.class);
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    private static final float TITLE_BOOST = 3f;
+    private static final float DESCRIPTION_BOOST = 2f;
+    private static final float CONTENT_BOOST = 1f;
+    private static final float PREFIX_WEIGHT = 0.7f;
+    private static final float FUZZY_WEIGHT = 0.5f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int MIN_TOMBSTONES_FOR_COMPACTION = 1024;
+
+    private final ProjectRepository projectRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final TreeMap<String, Postings> dictionary = new TreeMap<>();
+    private final Map<String, List<String>> deletions = new HashMap<>();
+    private final Map<Long, Integer> ordinalsByProjectId = new HashMap<>();
+    private final BitSet live = new BitSet();
+    private final Queue<float[]> scoreBuffers =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors() * 2);
+
+    private long[] projectIds = new long[1024];
+    private float[] documentLengths = new float[1024];
+    private String[][] documentTerms = new String[1024][];
+    private int nextOrdinal;
+    private int tombstones;
+    private double totalLength;
+
+    private volatile boolean ready;
+
+    public ProjectSearchIndex(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalsByProjectId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.nanoTime();
+        clear();
+        int page = 0;
+        Slice<ProjectSearchTextView> slice;
+        do {
+            // Scalar rows: Project.content is lazy and would otherwise be fetched one project at a time
+            slice = projectRepository.findSearchTexts(PageRequest.of(page++, REBUILD_BATCH_SIZE, Sort.by("id")));
+            for (ProjectSearchTextView project : slice) {
+                index(project.getId(), project.getTitle(), project.getDescription(), project.getContent());
+            }
+        } while (slice.hasNext());
+        ready = true;
+        logger.info("Search index built with {} projects in {} ms", size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDto project = event.getProject();
+        if (event.getChangeType() == ProjectChangedEvent.ChangeType.DELETED || !Boolean.TRUE.equals(project.getPublished())) {
+            remove(project.getId());
+        } else {
+            index(project.getId(), project.getTitle(), project.getDescription(), project.getContent());
+        }
+    }
+
+    public void index(Long projectId, String title, String description, String content) {
+        Map<String, Float> frequencies = new LinkedHashMap<>();
+        float length = accumulate(frequencies, title, TITLE_BOOST)
+                + accumulate(frequencies, description, DESCRIPTION_BOOST)
+                + accumulate(frequencies, content, CONTENT_BOOST);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(projectId);
+            int ordinal = nextOrdinal++;
+            ensureCapacity(ordinal);
+
+            String[] terms = new String[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                String term = entry.getKey();
+                Postings postings = dictionary.get(term);
+                if (postings == null) {
+                    postings = new Postings();
+                    dictionary.put(term, postings);
+                    addDeletions(term);
+                }
+                postings.add(ordinal, entry.getValue());
+                terms[i++] = term;
+            }
+
+            projectIds[ordinal] = projectId;
+            documentLengths[ordinal] = length;
+            documentTerms[ordinal] = terms;
+            live.set(ordinal);
+            ordinalsByProjectId.put(projectId, ordinal);
+            totalLength += length;
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long projectId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(projectId);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> queryTerms = TextAnalyzer.analyze(query);
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return SearchResult.empty();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = ordinalsByProjectId.size();
+            if (documentCount == 0) {
+                return SearchResult.empty();
+            }
+            float averageLength = (float) (totalLength / documentCount);
+            float[] scores = acquireScoreBuffer(nextOrdinal);
+            int[] touched = new int[16];
+            int touchedCount = 0;
+
+            for (int q = 0; q < queryTerms.size(); q++) {
+                Map<String, Float> expansions = expand(queryTerms.get(q), q == queryTerms.size() - 1);
+                for (Map.Entry<String, Float> expansion : expansions.entrySet()) {
+                    Postings postings = dictionary.get(expansion.getKey());
+                    float idf = (float) Math.log(1 + (documentCount - postings.liveCount + 0.5) / (postings.liveCount + 0.5));
+                    float weight = idf * expansion.getValue();
+                    for (int p = 0; p < postings.size; p++) {
+                        int ordinal = postings.ordinals[p];
+                        if (!live.get(ordinal)) {
+                            continue;
+                        }
+                        float tf = postings.frequencies[p];
+                        float norm = K1 * (1 - B + B * documentLengths[ordinal] / averageLength);
+                        if (scores[ordinal] == 0f) {
+                            if (touchedCount == touched.length) {
+                                touched = Arrays.copyOf(touched, touchedCount * 2);
+                            }
+                            touched[touchedCount++] = ordinal;
+                        }
+                        scores[ordinal] += weight * tf * (K1 + 1) / (tf + norm);
+                    }
+                }
+            }
+
+            List<Long> hits = topHits(scores, touched, touchedCount, offset, limit);
+            for (int t = 0; t < touchedCount; t++) {
+                scores[touched[t]] = 0f;
+            }
+            scoreBuffers.offer(scores);
+            return new SearchResult(touchedCount, hits);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Score accumulators are pooled rather than held per thread, since request threads may be
+     * virtual and short-lived. A buffer goes back zeroed, by resetting only the touched slots,
+     * so rare-term queries don't pay for clearing a buffer sized to the whole index.
+     */
+    private float[] acquireScoreBuffer(int capacity) {
+        float[] buffer = scoreBuffers.poll();
+        if (buffer == null || buffer.length < capacity) {
+            buffer = new float[Math.max(capacity, buffer != null ? buffer.length * 2 : 1024)];
+        }
+        return buffer;
+    }
+
+    private Map<String, Float> expand(String term, boolean lastTerm) {
+        Map<String, Float> expansions = new HashMap<>();
+        boolean exact = dictionary.containsKey(term);
+        if (exact) {
+            expansions.put(term, 1f);
+        }
+        if (lastTerm && term.length() >= MIN_PREFIX_LENGTH) {
+            SortedMap<String, Postings> prefixed = dictionary.subMap(term, term + Character.MAX_VALUE);
+            int expanded = 0;
+            for (String candidate : prefixed.keySet()) {
+                if (expanded++ == MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                expansions.putIfAbsent(candidate, PREFIX_WEIGHT);
+            }
+        }
+        if (!exact && term.length() >= MIN_FUZZY_LENGTH) {
+            for (String candidate : typoCandidates(term)) {
+                expansions.putIfAbsent(candidate, FUZZY_WEIGHT);
+            }
+        }
+        return expansions;
+    }
+
+    private List<String> typoCandidates(String term) {
+        List<String> candidates = new ArrayList<>();
+        // Dictionary terms with one extra character
+        addCandidates(candidates, term, deletions.get(term));
+        for (int i = 0; i < term.length(); i++) {
+            String deleted = term.substring(0, i) + term.substring(i + 1);
+            // Dictionary terms with one character fewer
+            if (dictionary.containsKey(deleted) && !candidates.contains(deleted)) {
+                candidates.add(deleted);
+            }
+            // Substitutions and adjacent transpositions share a deletion variant
+            addCandidates(candidates, term, deletions.get(deleted));
+        }
+        return candidates;
+    }
+
+    private static void addCandidates(List<String> candidates, String term, List<String> terms) {
+        if (terms == null) {
+            return;
+        }
+        for (String candidate : terms) {
+            if (!candidates.contains(candidate) && withinOneEdit(term, candidate)) {
+                candidates.add(candidate);
+            }
+        }
+    }
+
+    /**
+     * Optimal string alignment distance of at most one: a single insertion, deletion,
+     * substitution or adjacent transposition.
+     */
+    static boolean withinOneEdit(String a, String b) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+        if (a.equals(b)) {
+            return true;
+        }
+        if (Math.abs(lengthA - lengthB) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < Math.min(lengthA, lengthB) && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (lengthA == lengthB) {
+            if (a.regionMatches(i + 1, b, i + 1, lengthA - i - 1)) {
+                return true;
+            }
+            return i + 1 < lengthA && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                    && a.regionMatches(i + 2, b, i + 2, lengthA - i - 2);
+        }
+        return lengthA > lengthB
+                ? a.regionMatches(i + 1, b, i, lengthB - i)
+                : b.regionMatches(i + 1, a, i, lengthA - i);
+    }
+
+    private List<Long> topHits(float[] scores, int[] touched, int touchedCount, int offset, int limit) {
+        int wanted = (int) Math.min((long) offset + limit, touchedCount);
+        if (offset >= wanted) {
+            return List.of();
+        }
+
+        // Bounded min-heap of the best `wanted` ordinals; ties go to the newer project
+        int[] heap = new int[wanted];
+        int heapSize = 0;
+        for (int t = 0; t < touchedCount; t++) {
+            int ordinal = touched[t];
+            if (heapSize < wanted) {
+                heap[heapSize] = ordinal;
+                siftUp(heap, heapSize++, scores);
+            } else if (better(ordinal, heap[0], scores)) {
+                heap[0] = ordinal;
+                siftDown(heap, heapSize, scores);
+            }
+        }
+
+        long[] ranked = new long[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ranked[i] = projectIds[heap[0]];
+            heap[0] = heap[i];
+            siftDown(heap, i, scores);
+        }
+
+        List<Long> page = new ArrayList<>(heapSize - offset);
+        for (int i = offset; i < heapSize; i++) {
+            page.add(ranked[i]);
+        }
+        return page;
+    }
+
+    private boolean better(int a, int b, float[] scores) {
+        return scores[a] > scores[b] || (scores[a] == scores[b] && projectIds[a] > projectIds[b]);
+    }
+
+    private void siftUp(int[] heap, int index, float[] scores) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(heap[parent], heap[index], scores)) {
+                break;
+            }
+            swap(heap, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int size, float[] scores) {
+        int index = 0;
+        while (true) {
+            int left = 2 * index + 1;
+            if (left >= size) {
+                break;
+            }
+            int worst = left + 1 < size && better(heap[left], heap[left + 1], scores) ? left + 1 : left;
+            if (!better(heap[index], heap[worst], scores)) {
+                break;
+            }
+            swap(heap, index, worst);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] heap, int a, int b) {
+        int tmp = heap[a];
+        heap[a] = heap[b];
+        heap[b] = tmp;
+    }
+
+    private static float accumulate(Map<String, Float> frequencies, String text, float boost) {
+        List<String> terms = TextAnalyzer.analyze(text);
+        for (String term : terms) {
+            frequencies.merge(term, boost, Float::sum);
+        }
+        return terms.size() * boost;
+    }
+
+    private void removeLocked(Long projectId) {
+        Integer ordinal = ordinalsByProjectId.remove(projectId);
+        if (ordinal == null) {
+            return;
+        }
+        live.clear(ordinal);
+        for (String term : documentTerms[ordinal]) {
+            Postings postings = dictionary.get(term);
+            if (--postings.liveCount == 0) {
+                dictionary.remove(term);
+                removeDeletions(term);
+            }
+        }
+        totalLength -= documentLengths[ordinal];
+        documentTerms[ordinal] = null;
+        tombstones++;
+    }
+
+    private void compactIfNeeded() {
+        if (tombstones >= MIN_TOMBSTONES_FOR_COMPACTION && tombstones > ordinalsByProjectId.size()) {
+            compact();
+        }
+    }
+
+    private void compact() {
+        long[] oldProjectIds = projectIds;
+        float[] oldLengths = documentLengths;
+        String[][] oldTerms = documentTerms;
+        int oldCount = nextOrdinal;
+
+        // Re-read each surviving document's frequencies before the postings are dropped
+        List<Map<String, Float>> survivors = new ArrayList<>();
+        List<Integer> survivorOrdinals = new ArrayList<>();
+        for (int ordinal = live.nextSetBit(0); ordinal >= 0 && ordinal < oldCount; ordinal = live.nextSetBit(ordinal + 1)) {
+            Map<String, Float> frequencies = new LinkedHashMap<>();
+            for (String term : oldTerms[ordinal]) {
+                frequencies.put(term, dictionary.get(term).frequencyOf(ordinal));
+            }
+            survivors.add(frequencies);
+            survivorOrdinals.add(ordinal);
+        }
+
+        dictionary.values().forEach(Postings::clear);
+        ordinalsByProjectId.clear();
+        live.clear();
+        projectIds = new long[Math.max(1024, survivors.size() * 2)];
+        documentLengths = new float[projectIds.length];
+        documentTerms = new String[projectIds.length][];
+        nextOrdinal = 0;
+        tombstones = 0;
+
+        for (int i = 0; i < survivors.size(); i++) {
+            int oldOrdinal = survivorOrdinals.get(i);
+            int ordinal = nextOrdinal++;
+            for (Map.Entry<String, Float> entry : survivors.get(i).entrySet()) {
+                dictionary.get(entry.getKey()).add(ordinal, entry.getValue());
+            }
+            projectIds[ordinal] = oldProjectIds[oldOrdinal];
+            documentLengths[ordinal] = oldLengths[oldOrdinal];
+            documentTerms[ordinal] = oldTerms[oldOrdinal];
+            live.set(ordinal);
+            ordinalsByProjectId.put(projectIds[ordinal], ordinal);
+        }
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            dictionary.clear();
+            deletions.clear();
+            ordinalsByProjectId.clear();
+            live.clear();
+            nextOrdinal = 0;
+            tombstones = 0;
+            totalLength = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal < projectIds.length) {
+            return;
+        }
+        int capacity = projectIds.length * 2;
+        projectIds = Arrays.copyOf(projectIds, capacity);
+        documentLengths = Arrays.copyOf(documentLengths, capacity);
+        documentTerms = Arrays.copyOf(documentTerms, capacity);
+    }
+
+    private void addDeletions(String term) {
+        if (term.length() < MIN_FUZZY_LENGTH - 1) {
+            return;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            String deleted = term.substring(0, i) + term.substring(i + 1);
+            List<String> terms = deletions.computeIfAbsent(deleted, key -> new ArrayList<>(2));
+            if (!terms.contains(term)) {
+                terms.add(term);
+            }
+        }
+    }
+
+    private void removeDeletions(String term) {
+        if (term.length() < MIN_FUZZY_LENGTH - 1) {
+            return;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            String deleted = term.substring(0, i) + term.substring(i + 1);
+            List<String> terms = deletions.get(deleted);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    deletions.remove(deleted);
+                }
+            }
+        }
+    }
+
+    /**
+     * Append-only postings list; ordinals are strictly increasing because every
+     * (re)indexed document gets a fresh ordinal.
+     */
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+        private int liveCount;
+
+        void add(int ordinal, float frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size++] = frequency;
+            liveCount++;
+        }
+
+        float frequencyOf(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            return index >= 0 ? frequencies[index] : 0f;
+        }
+
+        void clear() {
+            size = 0;
+            liveCount = 0;
+        }
+    }
+}
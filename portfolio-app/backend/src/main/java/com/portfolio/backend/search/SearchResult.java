@@ -0,0 +1,29 @@
+package com.portfolio.backend.search;
+
+import java.util.List;
+
+public class SearchResult {
+
+    private final long totalHits;
+    private final List<Long> projectIds;
+
+    public SearchResult(long totalHits, List<Long> projectIds) {
+        this.totalHits = totalHits;
+        this.projectIds = projectIds;
+    }
+
+    public static SearchResult empty() {
+        return new SearchResult(0, List.of());
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    /**
+     * Ids of the requested page of hits, best match first.
+     */
+    public List<Long> getProjectIds() {
+        return projectIds;
+    }
+}
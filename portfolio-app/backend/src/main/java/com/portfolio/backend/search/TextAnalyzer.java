@@ -0,0 +1,114 @@
+package com.portfolio.backend.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Turns free text into index terms: lower-cases, folds diacritics, splits on anything that
+ * is not a letter or digit, drops stop words and applies a light English suffix stemmer.
+ * The same analysis runs on documents and queries so their terms line up.
+ */
+public final class TextAnalyzer {
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it",
+            "its", "of", "on", "or", "that", "the", "this", "to", "was", "were", "will", "with");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        String folded = fold(text);
+        StringBuilder token = new StringBuilder();
+        for (int i = 0; i <= folded.length(); i++) {
+            char c = i < folded.length() ? folded.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if (token.length() > 0) {
+                addTerm(terms, token.toString());
+                token.setLength(0);
+            }
+        }
+        return terms;
+    }
+
+    private static void addTerm(List<String> terms, String token) {
+        if (token.length() < 2 || STOP_WORDS.contains(token)) {
+            return;
+        }
+        terms.add(stem(token));
+    }
+
+    private static String fold(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+                StringBuilder builder = new StringBuilder(decomposed.length());
+                for (int j = 0; j < decomposed.length(); j++) {
+                    char c = decomposed.charAt(j);
+                    if (Character.getType(c) != Character.NON_SPACING_MARK) {
+                        builder.append(c);
+                    }
+                }
+                return builder.toString();
+            }
+        }
+        return text;
+    }
+
+    /**
+     * Light stemmer covering the inflections that matter for project write-ups
+     * (plurals, -ing, -ed, -ly). Deliberately conservative: over-stemming hurts
+     * prefix matching more than under-stemming hurts recall.
+     */
+    static String stem(String term) {
+        int length = term.length();
+        if (length <= 3 || !Character.isLetter(term.charAt(length - 1))) {
+            return term;
+        }
+        if (term.endsWith("ies") && length > 4) {
+            return term.substring(0, length - 3) + "y";
+        }
+        if (term.endsWith("sses")) {
+            return term.substring(0, length - 2);
+        }
+        if (term.endsWith("ing") && length > 5 && hasVowel(term, length - 3)) {
+            return undouble(term.substring(0, length - 3));
+        }
+        if (term.endsWith("ed") && length > 4 && hasVowel(term, length - 2)) {
+            return undouble(term.substring(0, length - 2));
+        }
+        if (term.endsWith("ly") && length > 4) {
+            return term.substring(0, length - 2);
+        }
+        if (term.endsWith("s") && !term.endsWith("ss") && !term.endsWith("us") && !term.endsWith("is")) {
+            return term.substring(0, length - 1);
+        }
+        return term;
+    }
+
+    private static boolean hasVowel(String term, int end) {
+        for (int i = 0; i < end; i++) {
+            if ("aeiouy".indexOf(term.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String undouble(String stem) {
+        int length = stem.length();
+        if (length > 3 && stem.charAt(length - 1) == stem.charAt(length - 2)
+                && "lsz".indexOf(stem.charAt(length - 1)) < 0) {
+            return stem.substring(0, length - 1);
+        }
+        return stem;
+    }
+}
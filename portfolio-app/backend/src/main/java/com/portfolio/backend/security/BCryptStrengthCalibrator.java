@@ -0,0 +1,45 @@
+package com.portfolio.backend.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+/**
+ * Picks the BCrypt cost factor for this machine: the highest strength whose hash time
+ * stays within the target latency, clamped to [min, max]. Each strength step doubles the
+ * work, so one timed baseline is enough to extrapolate.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final int BASELINE_STRENGTH = 10;
+    private static final String SAMPLE_PASSWORD = "calibration-sample";
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder baseline = new BCryptPasswordEncoder(BASELINE_STRENGTH);
+        baseline.encode(SAMPLE_PASSWORD);
+
+        // Best of three: the fastest run is the least disturbed by startup noise
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            baseline.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+
+        long target = targetLatency.toNanos();
+        int strength = BASELINE_STRENGTH;
+        long estimate = fastest;
+        while (strength < maxStrength && estimate * 2 <= target) {
+            strength++;
+            estimate *= 2;
+        }
+        while (strength > minStrength && estimate > target) {
+            strength--;
+            estimate /= 2;
+        }
+        return Math.max(minStrength, Math.min(maxStrength, strength));
+    }
+}
@@ -1,27 +1,94 @@
 package com.portfolio.backend.security;
 
+import com.portfolio.backend.config.CacheConfig;
+import com.portfolio.backend.model.User;
+import com.portfolio.backend.repository.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 
+/**
+ * Loads users from the database behind two caches: found users (username, password hash,
+ * role) and a short-lived negative cache of unknown usernames, so repeated logins with
+ * made-up names don't each cost a query. {@link UserCacheInvalidator} evicts both whenever
+ * a user row changes.
+ * <p>
+ * As the {@link UserDetailsPasswordService}, it also receives re-encoded passwords from the
+ * authentication provider when a stored hash is weaker than the current BCrypt strength.
+ */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+    private final Cache userDetailsCache;
+    private final Cache unknownUsersCache;
+
+    public CustomUserDetailsService(UserRepository userRepository, CacheManager cacheManager) {
+        this.userRepository = userRepository;
+        this.userDetailsCache = cacheManager.getCache(CacheConfig.USER_DETAILS);
+        this.unknownUsersCache = cacheManager.getCache(CacheConfig.UNKNOWN_USERS);
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        // For testing purposes, return a mock user
-        if ("admin".equals(username)) {
-            return new User(
-                    "admin",
-                    "$2a$10$dXJ3SW6G7P50lGmMkkmwe.20cQQubK3.HZWzG3YB1tlRy.fqvM/BG", // admin
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"))
-            );
+        CachedUser cachedUser = userDetailsCache.get(username, CachedUser.class);
+        if (cachedUser == null) {
+            if (unknownUsersCache.get(username) != null) {
+                throw new UsernameNotFoundException("User not found with username: " + username);
+            }
+            User user = userRepository.findByUsername(username).orElse(null);
+            if (user == null) {
+                unknownUsersCache.put(username, Boolean.TRUE);
+                throw new UsernameNotFoundException("User not found with username: " + username);
+            }
+            cachedUser = new CachedUser(user.getUsername(), user.getPassword(), user.getRole());
+            userDetailsCache.put(username, cachedUser);
+        }
+        // A fresh instance per call: authentication erases the password on the returned object
+        return new org.springframework.security.core.userdetails.User(
+                cachedUser.username,
+                cachedUser.password,
+                Collections.singletonList(new SimpleGrantedAuthority(cachedUser.role))
+        );
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByUsername(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
+                .build();
+    }
+
+    /**
+     * Drops any cached state for the username; call when a user's password or role changes.
+     */
+    public void invalidate(String username) {
+        userDetailsCache.evict(username);
+        unknownUsersCache.evict(username);
+    }
+
+    private static class CachedUser {
+        private final String username;
+        private final String password;
+        private final String role;
+
+        CachedUser(String username, String password, String role) {
+            this.username = username;
+            this.password = password;
+            this.role = role;
         }
-        throw new UsernameNotFoundException("User not found with username: " + username);
     }
-} 
\ No newline at end of file
+}
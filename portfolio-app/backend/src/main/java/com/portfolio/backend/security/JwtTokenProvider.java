@@ -1,38 +1,119 @@
 package com.portfolio.backend.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.SecretKey;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Date;
+
+/**
+ * Issues and verifies HMAC-SHA256 signed JWTs. A token only proves who the caller is: the
+ * subject is the username, and the roles are looked up per request (see
+ * {@link JwtAuthenticationFilter}) so a role change or deletion applies to tokens already issued.
+ * <p>
+ * Verified tokens are remembered by SHA-256 digest (never the token itself) in a bounded
+ * cache, so the repeated requests of one session skip parsing and signature checks.
+ * Cached entries still honour the token's own expiry.
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
-    
-    @Value("${jwt.expiration}")
-    private int jwtExpiration;
-    
-    // Generate token for testing
+    // The HS256 key size; a shorter secret is guessable however it is hashed
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+    private final long jwtExpiration;
+    private final Cache<ByteBuffer, VerifiedToken> verifiedTokens;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpiration,
+                            @Value("${jwt.verified-cache.maximum-size:10000}") long verifiedCacheSize,
+                            @Value("${jwt.verified-cache.time-to-live:PT5M}") Duration verifiedCacheTtl) {
+        if (jwtSecret == null || jwtSecret.isBlank()
+                || jwtSecret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("jwt.secret (JWT_SECRET) must be set to at least "
+                    + MIN_SECRET_BYTES + " bytes, e.g. the output of `openssl rand -base64 48`");
+        }
+        // Hashing the configured secret always yields a 256-bit HMAC key, whatever its length
+        this.signingKey = Keys.hmacShaKeyFor(sha256(jwtSecret.getBytes(StandardCharsets.UTF_8)));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
+        // A size of 0 turns the cache off and verifies every request
+        this.verifiedTokens = verifiedCacheSize > 0
+                ? Caffeine.newBuilder().maximumSize(verifiedCacheSize).expireAfterWrite(verifiedCacheTtl).build()
+                : null;
+    }
+
     public String generateToken(Authentication authentication) {
-        // For testing, return a mock token
-        return "mock-jwt-token-" + authentication.getName();
+        Date now = new Date();
+        return Jwts.builder()
+                .setSubject(authentication.getName())
+                .setIssuedAt(now)
+                .setExpiration(new Date(now.getTime() + jwtExpiration))
+                .signWith(signingKey, SignatureAlgorithm.HS256)
+                .compact();
+    }
+
+    /**
+     * Verifies the token and returns the username it was issued to.
+     *
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    public String getUsername(String token) {
+        if (verifiedTokens == null) {
+            return verify(token).username;
+        }
+        ByteBuffer digest = ByteBuffer.wrap(sha256(token.getBytes(StandardCharsets.UTF_8)));
+        VerifiedToken verified = verifiedTokens.getIfPresent(digest);
+        if (verified == null || verified.isExpired()) {
+            verified = verify(token);
+            verifiedTokens.put(digest, verified);
+        }
+        return verified.username;
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        Date expiration = claims.getExpiration();
+        long expiresAt = expiration != null ? expiration.getTime() : Long.MAX_VALUE;
+        return new VerifiedToken(claims.getSubject(), expiresAt);
     }
-    
-    // Extract username from token
-    public String getUsernameFromToken(String token) {
-        // For testing, extract username from mock token
-        if (token.startsWith("mock-jwt-token-")) {
-            return token.substring("mock-jwt-token-".length());
+
+    // A fresh digest per call: cheap, and unlike a ThreadLocal it is not wasted on virtual threads
+    private static byte[] sha256(byte[] input) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(input);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
         }
-        return "unknown";
     }
-    
-    // Validate token
-    public boolean validateToken(String token, UserDetails userDetails) {
-        // For testing, all tokens are valid
-        final String username = getUsernameFromToken(token);
-        return username.equals(userDetails.getUsername());
+
+    private static class VerifiedToken {
+        private final String username;
+        private final long expiresAt;
+
+        VerifiedToken(String username, long expiresAt) {
+            this.username = username;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.portfolio.backend.security;
+
+import com.portfolio.backend.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate event listener that evicts a {@link User}'s cached details whenever the row is
+ * inserted, updated (password, role, username, ...) or deleted. A rename evicts the old
+ * username as well as the new one. Eviction waits for the commit, otherwise a concurrent
+ * login could re-cache the old row before the change is visible.
+ * <p>
+ * Registered on the session factory rather than as a JPA entity listener, so the model
+ * doesn't depend on the security package. Bulk JPQL updates bypass it, as they bypass
+ * every entity event.
+ */
+@Component
+public class UserCacheInvalidator implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String USERNAME_PROPERTY = "username";
+
+    private final CustomUserDetailsService userDetailsService;
+
+    public UserCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                CustomUserDetailsService userDetailsService) {
+        this.userDetailsService = userDetailsService;
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+        listeners.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof User user) {
+            invalidateAfterCommit(user.getUsername(), null);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof User user) {
+            invalidateAfterCommit(user.getUsername(), previousUsername(event));
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof User user) {
+            invalidateAfterCommit(user.getUsername(), null);
+        }
+    }
+
+    // The cache is evicted by hand after commit, not from a Hibernate post-commit callback
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // Null when the entity was updated without a loaded snapshot
+    private static String previousUsername(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            return null;
+        }
+        int index = event.getPersister().getEntityMetamodel().getPropertyIndex(USERNAME_PROPERTY);
+        return (String) oldState[index];
+    }
+
+    private void invalidateAfterCommit(String username, String previousUsername) {
+        Runnable invalidate = () -> {
+            userDetailsService.invalidate(username);
+            if (previousUsername != null && !previousUsername.equals(username)) {
+                userDetailsService.invalidate(previousUsername);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate.run();
+                }
+            });
+        } else {
+            invalidate.run();
+        }
+    }
+}
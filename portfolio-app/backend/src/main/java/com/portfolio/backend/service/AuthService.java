@@ -4,8 +4,11 @@ import com.portfolio.backend.dto.LoginRequest;
 import com.portfolio.backend.dto.RegisterRequest;
 import com.portfolio.backend.dto.UserDto;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface AuthService {
-    String login(LoginRequest loginRequest);
-    UserDto register(RegisterRequest registerRequest);
+    // Password work runs on the hashing pool; both complete off the request thread
+    CompletableFuture<String> login(LoginRequest loginRequest);
+    CompletableFuture<UserDto> register(RegisterRequest registerRequest);
     UserDto getCurrentUser();
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.portfolio.backend.service;
+
+import com.portfolio.backend.dto.ContactFormDto;
+
+public interface ContactService {
+    
+    /**
+     * Stores the submission for asynchronous delivery and returns the id of the queued message.
+     */
+    Long submit(ContactFormDto contactForm);
+}
@@ -1,16 +1,31 @@
 package com.portfolio.backend.service;
 
+import com.portfolio.backend.dto.CursorPageDto;
 import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.ProjectFacetsDto;
+import com.portfolio.backend.dto.ProjectImportResultDto;
+import com.portfolio.backend.dto.ProjectSummaryDto;
+import com.portfolio.backend.dto.SerializedBody;
 import org.springframework.data.domain.Page;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ProjectService {
     Page<ProjectDto> getAllProjects(int page, int size, boolean onlyPublished);
+    Page<ProjectDto> getProjectsByFacets(List<String> tags, List<String> technologies, boolean matchAll,
+                                         int page, int size, boolean onlyPublished);
+    ProjectFacetsDto getFacets(List<String> tags, List<String> technologies, boolean matchAll, boolean onlyPublished);
+    Page<ProjectSummaryDto> getProjectSummaries(int page, int size, boolean onlyPublished);
+    CursorPageDto<ProjectDto> getProjectsAfter(String cursor, int size, boolean onlyPublished);
     ProjectDto getProjectBySlug(String slug);
-    List<ProjectDto> getFeaturedProjects();
+    SerializedBody getFeaturedProjects();
     Page<ProjectDto> searchProjects(String keyword, int page, int size);
     ProjectDto createProject(ProjectDto projectDto);
     ProjectDto updateProject(Long id, ProjectDto projectDto);
     void deleteProject(Long id);
+    ProjectImportResultDto importProjects(InputStream ndjson) throws IOException;
+    void exportProjects(OutputStream output) throws IOException;
 } 
\ No newline at end of file
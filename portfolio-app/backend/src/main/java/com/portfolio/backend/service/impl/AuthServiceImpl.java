@@ -3,63 +3,139 @@ package com.portfolio.backend.service.impl;
 import com.portfolio.backend.dto.LoginRequest;
 import com.portfolio.backend.dto.RegisterRequest;
 import com.portfolio.backend.dto.UserDto;
+import com.portfolio.backend.exception.ResourceNotFoundException;
+import com.portfolio.backend.exception.UserAlreadyExistsException;
+import com.portfolio.backend.model.User;
+import com.portfolio.backend.repository.UserRepository;
 import com.portfolio.backend.security.JwtTokenProvider;
+import com.portfolio.backend.security.PasswordHashingExecutor;
 import com.portfolio.backend.service.AuthService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 @Service
 public class AuthServiceImpl implements AuthService {
 
+    private static final String DEFAULT_ROLE = "ROLE_USER";
+
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserRepository userRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer loginSuccessTimer;
+    private final Timer loginFailureTimer;
+    private final Timer loginErrorTimer;
     
     public AuthServiceImpl(AuthenticationManager authenticationManager, 
-                          JwtTokenProvider jwtTokenProvider) {
+                          JwtTokenProvider jwtTokenProvider,
+                          UserRepository userRepository,
+                          PasswordEncoder passwordEncoder,
+                          PasswordHashingExecutor passwordHashingExecutor,
+                          TransactionTemplate transactionTemplate,
+                          MeterRegistry meterRegistry) {
         this.authenticationManager = authenticationManager;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.userRepository = userRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.transactionTemplate = transactionTemplate;
+        this.loginSuccessTimer = loginTimer(meterRegistry, "success");
+        this.loginFailureTimer = loginTimer(meterRegistry, "failure");
+        this.loginErrorTimer = loginTimer(meterRegistry, "error");
     }
 
     @Override
-    public String login(LoginRequest loginRequest) {
-        Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        loginRequest.getUsername(),
-                        loginRequest.getPassword()
-                )
-        );
-
-        SecurityContextHolder.getContext().setAuthentication(authentication);
-        return jwtTokenProvider.generateToken(authentication);
+    public CompletableFuture<String> login(LoginRequest loginRequest) {
+        // The token is returned to the client; nothing is stored in the (stateless) security context
+        long start = System.nanoTime();
+        return passwordHashingExecutor.submit(() -> {
+            try {
+                Authentication authentication = authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(
+                                loginRequest.getUsername(),
+                                loginRequest.getPassword()
+                        )
+                );
+                String token = jwtTokenProvider.generateToken(authentication);
+                loginSuccessTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return token;
+            } catch (AuthenticationException e) {
+                // Bad credentials, unknown user, locked account: the rate worth alerting on
+                loginFailureTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            } catch (RuntimeException e) {
+                loginErrorTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                throw e;
+            }
+        });
     }
 
     @Override
-    public UserDto register(RegisterRequest registerRequest) {
-        // For testing, return a mock registered user
-        UserDto userDto = new UserDto();
-        userDto.setId(1L);
-        userDto.setUsername(registerRequest.getUsername());
-        userDto.setEmail(registerRequest.getEmail());
-        userDto.setFirstName(registerRequest.getFirstName());
-        userDto.setLastName(registerRequest.getLastName());
-        userDto.setRole("ROLE_USER");
-        return userDto;
+    public CompletableFuture<UserDto> register(RegisterRequest registerRequest) {
+        // Cheap duplicate checks first, so taken names don't use hashing capacity
+        if (userRepository.existsByUsername(registerRequest.getUsername())) {
+            throw new UserAlreadyExistsException("Username is already taken: " + registerRequest.getUsername());
+        }
+        if (userRepository.existsByEmail(registerRequest.getEmail())) {
+            throw new UserAlreadyExistsException("Email is already registered: " + registerRequest.getEmail());
+        }
+
+        return passwordHashingExecutor.submit(() -> passwordEncoder.encode(registerRequest.getPassword()))
+                .thenApply(encodedPassword -> transactionTemplate.execute(status -> {
+                    User user = new User();
+                    user.setUsername(registerRequest.getUsername());
+                    user.setEmail(registerRequest.getEmail());
+                    user.setPassword(encodedPassword);
+                    user.setFirstName(registerRequest.getFirstName());
+                    user.setLastName(registerRequest.getLastName());
+                    user.setRole(DEFAULT_ROLE);
+                    // Flushed so the INSERT, and with it createdAt, happens before the mapping
+                    return toDto(userRepository.saveAndFlush(user));
+                }));
     }
 
     @Override
+    @Transactional(readOnly = true)
     public UserDto getCurrentUser() {
-        // For testing, return a mock current user
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "username", username));
+        return toDto(user);
+    }
+
+    // Timed from submission, so the time spent queued for the hashing pool is included
+    private static Timer loginTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.login")
+                .description("Login attempts by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private UserDto toDto(User user) {
         UserDto userDto = new UserDto();
-        userDto.setId(1L);
-        userDto.setUsername(username);
-        userDto.setEmail("test@example.com");
-        userDto.setFirstName("Test");
-        userDto.setLastName("User");
-        userDto.setRole("ROLE_USER");
+        userDto.setId(user.getId());
+        userDto.setUsername(user.getUsername());
+        userDto.setEmail(user.getEmail());
+        userDto.setFirstName(user.getFirstName());
+        userDto.setLastName(user.getLastName());
+        userDto.setBio(user.getBio());
+        userDto.setProfileImage(user.getProfileImage());
+        userDto.setRole(user.getRole());
+        userDto.setCreatedAt(user.getCreatedAt());
         return userDto;
     }
-} 
\ No newline at end of file
+}
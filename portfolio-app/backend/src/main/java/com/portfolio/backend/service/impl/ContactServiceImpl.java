@@ -0,0 +1,45 @@
+package com.portfolio.backend.service.impl;
+
+import com.portfolio.backend.dto.ContactFormDto;
+import com.portfolio.backend.event.ContactMessageQueuedEvent;
+import com.portfolio.backend.model.ContactMessage;
+import com.portfolio.backend.repository.ContactMessageRepository;
+import com.portfolio.backend.service.ContactService;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.ZonedDateTime;
+
+@Service
+public class ContactServiceImpl implements ContactService {
+
+    private final ContactMessageRepository contactMessageRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ContactServiceImpl(ContactMessageRepository contactMessageRepository,
+                              ApplicationEventPublisher eventPublisher) {
+        this.contactMessageRepository = contactMessageRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional
+    public Long submit(ContactFormDto contactForm) {
+        ContactMessage message = new ContactMessage();
+        message.setName(contactForm.getName());
+        message.setCompany(contactForm.getCompany());
+        message.setEmail(contactForm.getEmail());
+        message.setPhone(contactForm.getPhone());
+        message.setSubject(contactForm.getSubject());
+        message.setMessage(contactForm.getMessage());
+        message.setWantsReply(contactForm.isWantsReply());
+        message.setStatus(ContactMessage.Status.PENDING);
+        message.setAttempts(0);
+        message.setNextAttemptAt(ZonedDateTime.now());
+
+        ContactMessage savedMessage = contactMessageRepository.save(message);
+        eventPublisher.publishEvent(new ContactMessageQueuedEvent(savedMessage.getId()));
+        return savedMessage.getId();
+    }
+}
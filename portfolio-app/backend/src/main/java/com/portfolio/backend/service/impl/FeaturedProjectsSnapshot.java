@@ -0,0 +1,157 @@
+package com.portfolio.backend.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.SerializedBody;
+import com.portfolio.backend.event.ProjectChangedEvent;
+import com.portfolio.backend.mapper.ProjectMapper;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.util.EtagUtil;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+/**
+ * The featured-projects response, kept serialized in memory. Requests get the same
+ * immutable bytes and ETag until a committed change touches the list; the snapshot is then
+ * rebuilt on a background thread while requests keep getting the previous one.
+ * <p>
+ * A change touches the list when the project is on it now or is featured and published
+ * after the change. Changes that arrive while a rebuild is pending or running are folded
+ * into one more pass rather than queueing a rebuild each.
+ */
+@Component
+public class FeaturedProjectsSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(FeaturedProjectsSnapshot.class);
+
+    private final ProjectRepository projectRepository;
+    private final ProjectMapper projectMapper;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ExecutorService rebuilder;
+    // Serializes builds so a slower, older read can never overwrite a newer snapshot
+    private final ReentrantLock buildLock = new ReentrantLock();
+    // Changes not yet covered by a finished rebuild; non-zero while one is queued or running
+    private final AtomicInteger pendingChanges = new AtomicInteger();
+
+    private volatile Snapshot snapshot;
+
+    public FeaturedProjectsSnapshot(ProjectRepository projectRepository,
+                                    ProjectMapper projectMapper,
+                                    ObjectMapper objectMapper,
+                                    PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.projectMapper = projectMapper;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.rebuilder = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "featured-projects-rebuild");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * The current snapshot, built on the calling thread if none exists yet.
+     */
+    public SerializedBody get() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            current = build();
+        }
+        return current.body;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDto project = event.getProject();
+        Snapshot current = snapshot;
+        boolean featuredNow = event.getChangeType() != ProjectChangedEvent.ChangeType.DELETED
+                && Boolean.TRUE.equals(project.getFeatured()) && Boolean.TRUE.equals(project.getPublished());
+        // A snapshot can only be trusted to decide when no rebuild that predates it is in flight
+        boolean affected = current == null || pendingChanges.get() > 0
+                || current.projectIds.contains(project.getId()) || featuredNow;
+        if (affected) {
+            requestRebuild();
+        }
+    }
+
+    private void requestRebuild() {
+        if (pendingChanges.getAndIncrement() == 0) {
+            rebuilder.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        int covered;
+        do {
+            covered = pendingChanges.get();
+            try {
+                build();
+            } catch (RuntimeException e) {
+                // Drop the stale snapshot; the next request builds one itself or reports the failure
+                logger.warn("Rebuilding the featured projects snapshot failed", e);
+                snapshot = null;
+            }
+        } while (!pendingChanges.compareAndSet(covered, 0));
+    }
+
+    private Snapshot build() {
+        buildLock.lock();
+        try {
+            List<ProjectDto> projects = readOnlyTransactionTemplate.execute(status ->
+                    projectRepository.findFeaturedProjects().stream()
+                            .map(projectMapper::toListDto)
+                            .toList());
+            SerializedBody body = SerializedBody.of(objectMapper.writeValueAsBytes(projects),
+                    EtagUtil.projectsEtag(projects), EtagUtil.lastModified(projects));
+            Set<Long> projectIds = projects.stream().map(ProjectDto::getId).collect(Collectors.toUnmodifiableSet());
+            Snapshot built = new Snapshot(body, projectIds);
+            snapshot = built;
+            return built;
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize featured projects", e);
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        rebuilder.shutdown();
+        rebuilder.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    private static class Snapshot {
+        private final SerializedBody body;
+        private final Set<Long> projectIds;
+
+        Snapshot(SerializedBody body, Set<Long> projectIds) {
+            this.body = body;
+            this.projectIds = projectIds;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.portfolio.backend.service.impl;
+
+import com.portfolio.backend.config.CacheConfig;
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.event.ProjectChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Evicts cached project reads once a write has committed. Slug entries are evicted by key
+ * (old and new slug); list pages are cleared because any write can shift page boundaries.
+ * The featured list is not a cache entry; see {@link FeaturedProjectsSnapshot}.
+ */
+@Component
+public class ProjectCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public ProjectCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @TransactionalEventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDto project = event.getProject();
+
+        Cache bySlug = cacheManager.getCache(CacheConfig.PROJECT_BY_SLUG);
+        if (event.getPreviousSlug() != null) {
+            bySlug.evict(event.getPreviousSlug());
+        }
+        bySlug.evict(project.getSlug());
+
+        cacheManager.getCache(CacheConfig.PROJECT_PAGES).clear();
+        cacheManager.getCache(CacheConfig.PROJECT_SUMMARIES).clear();
+    }
+}
@@ -1,154 +1,546 @@
 package com.portfolio.backend.service.impl;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.portfolio.backend.config.CacheConfig;
+import com.portfolio.backend.dto.CursorPageDto;
 import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.ProjectFacetsDto;
 import com.portfolio.backend.dto.ProjectImageDto;
+import com.portfolio.backend.dto.ProjectImportResultDto;
+import com.portfolio.backend.dto.ProjectSummaryDto;
+import com.portfolio.backend.dto.SerializedBody;
 import com.portfolio.backend.dto.TagDto;
 import com.portfolio.backend.dto.TechnologyDto;
 import com.portfolio.backend.dto.VideoDto;
+import com.portfolio.backend.event.ProjectChangedEvent;
+import com.portfolio.backend.exception.BadRequestException;
 import com.portfolio.backend.exception.ResourceNotFoundException;
+import com.portfolio.backend.mapper.ProjectMapper;
 import com.portfolio.backend.model.Project;
-import com.portfolio.backend.model.ProjectImage;
-import com.portfolio.backend.model.Tag;
-import com.portfolio.backend.model.Technology;
 import com.portfolio.backend.model.User;
-import com.portfolio.backend.model.Video;
-import com.portfolio.backend.repository.ProjectImageRepository;
 import com.portfolio.backend.repository.ProjectRepository;
-import com.portfolio.backend.repository.TagRepository;
-import com.portfolio.backend.repository.TechnologyRepository;
 import com.portfolio.backend.repository.UserRepository;
-import com.portfolio.backend.repository.VideoRepository;
+import com.portfolio.backend.repository.projection.ProjectSummaryView;
+import com.portfolio.backend.repository.projection.ProjectTagNameView;
+import com.portfolio.backend.search.ProjectFacetIndex;
+import com.portfolio.backend.search.ProjectSearchIndex;
+import com.portfolio.backend.search.SearchResult;
 import com.portfolio.backend.service.ProjectService;
+import com.portfolio.backend.taxonomy.TaxonomyDictionary;
+import com.portfolio.backend.util.CursorUtil;
 import com.portfolio.backend.util.SlugUtil;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.TransactionException;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.ZonedDateTime;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ProjectServiceImpl implements ProjectService {
 
-    // No dependencies
-    
+    // Errors listed in an import result; the rest are only counted
+    private static final int MAX_IMPORT_ERRORS = 100;
+    // Upper bound on one page, offset or cursor; also keeps the size + 1 look-ahead from overflowing
+    private static final int MAX_PAGE_SIZE = 100;
+    // Projects mapped per persistence-context window while exporting
+    private static final int EXPORT_WINDOW = 100;
+
+    private final ProjectRepository projectRepository;
+    private final TaxonomyDictionary taxonomyDictionary;
+    private final UserRepository userRepository;
+    private final ProjectMapper projectMapper;
+    private final ProjectSearchIndex projectSearchIndex;
+    private final ProjectFacetIndex projectFacetIndex;
+    private final FeaturedProjectsSnapshot featuredProjectsSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${app.projects.import.batch-size:500}")
+    private int importBatchSize;
+
+    public ProjectServiceImpl(ProjectRepository projectRepository,
+                              TaxonomyDictionary taxonomyDictionary,
+                              UserRepository userRepository,
+                              ProjectMapper projectMapper,
+                              ProjectSearchIndex projectSearchIndex,
+                              ProjectFacetIndex projectFacetIndex,
+                              FeaturedProjectsSnapshot featuredProjectsSnapshot,
+                              ApplicationEventPublisher eventPublisher,
+                              EntityManager entityManager,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              Validator validator) {
+        this.projectRepository = projectRepository;
+        this.taxonomyDictionary = taxonomyDictionary;
+        this.userRepository = userRepository;
+        this.projectMapper = projectMapper;
+        this.projectSearchIndex = projectSearchIndex;
+        this.projectFacetIndex = projectFacetIndex;
+        this.featuredProjectsSnapshot = featuredProjectsSnapshot;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
     @Override
+    @Cacheable(cacheNames = CacheConfig.PROJECT_PAGES, key = "{#page, #size, #onlyPublished}", sync = true)
+    @Transactional(readOnly = true)
     public Page<ProjectDto> getAllProjects(int page, int size, boolean onlyPublished) {
-        Pageable pageable = PageRequest.of(page, size);
-        List<ProjectDto> projects = new ArrayList<>();
-        
-        // Add more mock projects
-        projects.add(createMockProject(1L, "Professional Portfolio Website"));
-        projects.add(createMockProject(2L, "E-commerce Platform"));
-        projects.add(createMockProject(3L, "Real-time Chat Application"));
-        projects.add(createMockProject(4L, "Task Management System"));
-        projects.add(createMockProject(5L, "Weather Forecast App"));
-        projects.add(createMockProject(6L, "Recipe Sharing Platform"));
-        
-        return PageableExecutionUtils.getPage(
-            projects,
-            pageable,
-            () -> (long) projects.size()
-        );
+        // Collections are batch-fetched (see @BatchSize on Project), so a page costs
+        // one select, one count and one query per collection regardless of page size
+        PageRequest pageable = pageRequest(page, size);
+        Page<Project> projects = onlyPublished
+                ? projectRepository.findAllPublishedProjects(pageable)
+                : projectRepository.findAll(pageable.withSort(Sort.by(Sort.Direction.DESC, "createdAt")));
+        return projects.map(projectMapper::toListDto);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public Page<ProjectDto> getProjectsByFacets(List<String> tags, List<String> technologies, boolean matchAll,
+                                                int page, int size, boolean onlyPublished) {
+        Pageable pageable = pageRequest(page, size);
+        // The index picks the page; the database is only asked for the rows on it
+        SearchResult result = projectFacetIndex.filter(tags, technologies, matchAll, onlyPublished,
+                offset(pageable), size);
+        return new PageImpl<>(loadInOrder(result.getProjectIds()), pageable, result.getTotalHits());
+    }
+
+    @Override
+    public ProjectFacetsDto getFacets(List<String> tags, List<String> technologies, boolean matchAll, boolean onlyPublished) {
+        return projectFacetIndex.facets(tags, technologies, matchAll, onlyPublished);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PROJECT_SUMMARIES, key = "{#page, #size, #onlyPublished}", sync = true)
+    @Transactional(readOnly = true)
+    public Page<ProjectSummaryDto> getProjectSummaries(int page, int size, boolean onlyPublished) {
+        // Scalar projection: skips content and the nested video/image graphs entirely,
+        // and tag names for the whole page come back in a single extra query
+        Page<ProjectSummaryView> summaries = projectRepository.findProjectSummaries(onlyPublished, pageRequest(page, size));
+        if (summaries.isEmpty()) {
+            return summaries.map(summary -> toSummaryDto(summary, List.of()));
+        }
+
+        List<Long> projectIds = summaries.map(ProjectSummaryView::getId).getContent();
+        Map<Long, List<String>> tagNames = new HashMap<>();
+        for (ProjectTagNameView tag : projectRepository.findTagNamesByProjectIds(projectIds)) {
+            tagNames.computeIfAbsent(tag.getProjectId(), id -> new ArrayList<>()).add(tag.getName());
+        }
+        return summaries.map(summary -> toSummaryDto(summary, tagNames.getOrDefault(summary.getId(), List.of())));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<ProjectDto> getProjectsAfter(String cursor, int size, boolean onlyPublished) {
+        checkPageSize(size);
+        // Fetch one extra row to learn whether another page exists without a count query
+        Limit limit = Limit.of(size + 1);
+        List<Project> projects;
+        if (hasText(cursor)) {
+            CursorUtil.Cursor position = CursorUtil.decode(cursor);
+            projects = projectRepository.findNextByCreatedAt(onlyPublished, position.getCreatedAt(), position.getId(), limit);
+        } else {
+            projects = projectRepository.findFirstByCreatedAt(onlyPublished, limit);
+        }
+
+        boolean hasNext = projects.size() > size;
+        List<Project> page = hasNext ? projects.subList(0, size) : projects;
+        String nextCursor = null;
+        if (hasNext) {
+            Project last = page.get(page.size() - 1);
+            nextCursor = CursorUtil.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPageDto<>(page.stream().map(projectMapper::toListDto).toList(), size, hasNext, nextCursor);
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.PROJECT_BY_SLUG, key = "#slug", sync = true)
+    @Transactional(readOnly = true)
     public ProjectDto getProjectBySlug(String slug) {
-        // Return a mock project based on the slug
-        String title = slug.replace("-", " ");
-        title = title.substring(0, 1).toUpperCase() + title.substring(1);
-        return createMockProject(1L, title);
+        Project project = projectRepository.findBySlug(slug)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "slug", slug));
+        return projectMapper.toDto(project);
     }
 
     @Override
-    public List<ProjectDto> getFeaturedProjects() {
-        List<ProjectDto> projects = new ArrayList<>();
-        projects.add(createMockProject(1L, "Featured Project: Portfolio Website"));
-        projects.add(createMockProject(2L, "Featured Project: E-commerce Platform"));
-        return projects;
+    public SerializedBody getFeaturedProjects() {
+        return featuredProjectsSnapshot.get();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Page<ProjectDto> searchProjects(String keyword, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        List<ProjectDto> projects = new ArrayList<>();
-        projects.add(createMockProject(1L, "Search Result: " + keyword));
-        projects.add(createMockProject(2L, "Another Result: " + keyword));
-        
-        return PageableExecutionUtils.getPage(
-            projects,
-            pageable,
-            () -> 2L
-        );
+        Pageable pageable = pageRequest(page, size);
+        int offset = offset(pageable);
+        if (!projectSearchIndex.isReady()) {
+            // Index is still being built at startup; fall back to the LIKE query
+            return projectRepository.searchProjects(keyword, pageable).map(projectMapper::toListDto);
+        }
+
+        SearchResult result = projectSearchIndex.search(keyword, offset, size);
+        return new PageImpl<>(loadInOrder(result.getProjectIds()), pageable, result.getTotalHits());
+    }
+
+    private static PageRequest pageRequest(int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("Page index must not be negative");
+        }
+        checkPageSize(size);
+        return PageRequest.of(page, size);
+    }
+
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    // The in-memory indexes page with int offsets; a page past them is refused, not wrapped
+    private static int offset(Pageable pageable) {
+        try {
+            return Math.toIntExact(pageable.getOffset());
+        } catch (ArithmeticException e) {
+            throw new BadRequestException("Page index is out of range: " + pageable.getPageNumber());
+        }
+    }
+
+    // Loads the given projects in one query and maps them in the order the index ranked them
+    private List<ProjectDto> loadInOrder(List<Long> projectIds) {
+        Map<Long, Project> projectsById = projectRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        return projectIds.stream()
+                .map(projectsById::get)
+                .filter(project -> project != null)
+                .map(projectMapper::toListDto)
+                .toList();
     }
 
     @Override
     @Transactional
     public ProjectDto createProject(ProjectDto projectDto) {
-        return createMockProject(1L, projectDto.getTitle());
+        Project project = new Project();
+        applyDto(project, projectDto);
+        project.setSlug(uniqueSlug(hasText(projectDto.getSlug()) ? projectDto.getSlug() : projectDto.getTitle(), null));
+        project.setUser(currentUser());
+        // Sequence ids defer the INSERT to the flush, and with it the creation/update timestamps
+        // the response and the change event carry
+        ProjectDto created = projectMapper.toDto(projectRepository.saveAndFlush(project));
+        eventPublisher.publishEvent(new ProjectChangedEvent(created, null, ProjectChangedEvent.ChangeType.CREATED));
+        return created;
     }
 
     @Override
     @Transactional
     public ProjectDto updateProject(Long id, ProjectDto projectDto) {
-        return createMockProject(id, projectDto.getTitle());
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        String previousSlug = project.getSlug();
+        applyDto(project, projectDto);
+        if (hasText(projectDto.getSlug())) {
+            project.setSlug(uniqueSlug(projectDto.getSlug(), previousSlug));
+        }
+        // The project is already managed, so flush rather than merge: merging would load every
+        // tag and technology the dictionary handed out as a detached instance
+        projectRepository.flush();
+        ProjectDto updated = projectMapper.toDto(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(updated, previousSlug, ProjectChangedEvent.ChangeType.UPDATED));
+        return updated;
     }
 
     @Override
     @Transactional
     public void deleteProject(Long id) {
-        // Mock deletion, do nothing
-    }
-    
-    private ProjectDto createMockProject(Long id, String title) {
-        ProjectDto projectDto = new ProjectDto();
-        projectDto.setId(id);
-        projectDto.setTitle(title);
-        projectDto.setSlug(title.toLowerCase().replace(" ", "-"));
-        projectDto.setDescription("This is a sample project description for " + title);
-        projectDto.setContent("Sample content for " + title + ". This project demonstrates various technologies and skills.");
-        projectDto.setThumbnail("https://via.placeholder.com/800x600");
-        projectDto.setGithubUrl("https://github.com/sample/project");
-        projectDto.setLiveUrl("https://sample-project.com");
-        projectDto.setFeatured(true);
-        projectDto.setPublished(true);
-        projectDto.setCreatedAt(ZonedDateTime.now());
-        projectDto.setUpdatedAt(ZonedDateTime.now());
-        projectDto.setUserId(1L);
-        projectDto.setUsername("admin");
-        
-        // Add mock technologies
-        Set<TechnologyDto> technologies = new HashSet<>();
-        TechnologyDto tech1 = new TechnologyDto(1L, "Java", "java");
-        TechnologyDto tech2 = new TechnologyDto(2L, "Spring Boot", "spring");
-        TechnologyDto tech3 = new TechnologyDto(3L, "React", "react");
-        TechnologyDto tech4 = new TechnologyDto(4L, "TypeScript", "typescript");
-        technologies.add(tech1);
-        technologies.add(tech2);
-        technologies.add(tech3);
-        technologies.add(tech4);
-        projectDto.setTechnologies(technologies);
-        
-        // Add mock tags
-        Set<TagDto> tags = new HashSet<>();
-        TagDto tag1 = new TagDto(1L, "Web Development");
-        TagDto tag2 = new TagDto(2L, "Frontend");
-        TagDto tag3 = new TagDto(3L, "Backend");
-        tags.add(tag1);
-        tags.add(tag2);
-        tags.add(tag3);
-        projectDto.setTags(tags);
-        
-        return projectDto;
-    }
-} 
\ No newline at end of file
+        Project project = projectRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Project", "id", id));
+        ProjectDto deleted = projectMapper.toDto(project);
+        projectRepository.delete(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(deleted, deleted.getSlug(), ProjectChangedEvent.ChangeType.DELETED));
+    }
+
+    /**
+     * Reads one {@link ProjectDto} per line and commits them in transactions of
+     * {@code app.projects.import.batch-size}, so memory stays bounded by one batch however
+     * long the input is. Malformed or invalid lines are skipped and reported; a batch that
+     * fails to commit is reported as a whole and the import carries on with the next one.
+     */
+    @Override
+    public ProjectImportResultDto importProjects(InputStream ndjson) throws IOException {
+        ProjectImportResultDto result = new ProjectImportResultDto();
+        User owner = currentUser();
+        Long ownerId = owner != null ? owner.getId() : null;
+        ObjectReader dtoReader = objectMapper.readerFor(ProjectDto.class);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8));
+        List<ProjectDto> batch = new ArrayList<>(importBatchSize);
+        int batchFirstLine = 0;
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            ProjectDto projectDto;
+            try {
+                projectDto = dtoReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                reject(result, 1, "line " + lineNumber + ": malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            Set<ConstraintViolation<ProjectDto>> violations = validator.validate(projectDto);
+            if (!violations.isEmpty()) {
+                ConstraintViolation<ProjectDto> violation = violations.iterator().next();
+                reject(result, 1, "line " + lineNumber + ": " + violation.getPropertyPath() + " " + violation.getMessage());
+                continue;
+            }
+
+            if (batch.isEmpty()) {
+                batchFirstLine = lineNumber;
+            }
+            batch.add(projectDto);
+            if (batch.size() == importBatchSize) {
+                importBatch(batch, ownerId, result, batchFirstLine, lineNumber);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            importBatch(batch, ownerId, result, batchFirstLine, lineNumber);
+        }
+        return result;
+    }
+
+    private void importBatch(List<ProjectDto> batch, Long ownerId, ProjectImportResultDto result,
+                             int firstLine, int lastLine) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                User owner = ownerId != null ? entityManager.getReference(User.class, ownerId) : null;
+                List<String> baseSlugs = new ArrayList<>(batch.size());
+                for (ProjectDto projectDto : batch) {
+                    baseSlugs.add(SlugUtil.createSlug(hasText(projectDto.getSlug()) ? projectDto.getSlug() : projectDto.getTitle()));
+                }
+                // One query for the whole batch; only collisions fall back to probing
+                Set<String> takenSlugs = new HashSet<>(projectRepository.findExistingSlugs(new HashSet<>(baseSlugs)));
+                // Likewise all tag and technology names of the batch are resolved together
+                List<TagDto> tags = new ArrayList<>();
+                List<TechnologyDto> technologies = new ArrayList<>();
+                for (ProjectDto projectDto : batch) {
+                    addAll(tags, projectDto.getTags());
+                    addAll(technologies, projectDto.getTechnologies());
+                }
+                TaxonomyDictionary.Lookup taxonomy = taxonomyDictionary.resolve(tags, technologies);
+
+                List<Project> projects = new ArrayList<>(batch.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    ProjectDto projectDto = batch.get(i);
+                    Project project = new Project();
+                    applyDto(project, projectDto, taxonomy);
+                    project.setSlug(uniqueImportSlug(baseSlugs.get(i), takenSlugs));
+                    project.setUser(owner);
+                    entityManager.persist(project);
+                    projects.add(project);
+                }
+                // The inserts run here, batched, and set the timestamps the change events carry
+                entityManager.flush();
+                for (Project project : projects) {
+                    eventPublisher.publishEvent(new ProjectChangedEvent(
+                            projectMapper.toDto(project), null, ProjectChangedEvent.ChangeType.CREATED));
+                }
+                // With open-in-view the persistence context spans the whole request, so detach
+                // the batch explicitly or every later flush would walk all projects imported so far
+                entityManager.clear();
+            });
+            result.setImported(result.getImported() + batch.size());
+        } catch (DataAccessException | PersistenceException | TransactionException e) {
+            reject(result, batch.size(), "lines " + firstLine + "-" + lastLine + ": batch rolled back: "
+                    + (e.getCause() != null ? e.getCause().getMessage() : e.getMessage()));
+        }
+    }
+
+    private static void reject(ProjectImportResultDto result, int count, String error) {
+        result.setRejected(result.getRejected() + count);
+        if (result.getErrors().size() < MAX_IMPORT_ERRORS) {
+            result.getErrors().add(error);
+        }
+    }
+
+    /**
+     * Writes every project as one JSON line, in id order, straight from a database cursor.
+     * The persistence context is cleared after each window of projects so neither the
+     * entities nor their collections accumulate over the export.
+     */
+    @Override
+    public void exportProjects(OutputStream output) throws IOException {
+        ObjectWriter dtoWriter = objectMapper.writerFor(ProjectDto.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(output);
+        generator.setRootValueSeparator(null);
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Project> projects = projectRepository.streamAllOrderById()) {
+                    List<Project> window = new ArrayList<>(EXPORT_WINDOW);
+                    Iterator<Project> iterator = projects.iterator();
+                    while (iterator.hasNext()) {
+                        window.add(iterator.next());
+                        if (window.size() == EXPORT_WINDOW) {
+                            writeWindow(window, dtoWriter, generator);
+                        }
+                    }
+                    writeWindow(window, dtoWriter, generator);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+    }
+
+    private void writeWindow(List<Project> window, ObjectWriter dtoWriter, JsonGenerator generator) throws IOException {
+        // Mapping the whole window before clearing lets @BatchSize load its collections together
+        for (Project project : window) {
+            dtoWriter.writeValue(generator, projectMapper.toDto(project));
+            generator.writeRaw('\n');
+        }
+        window.clear();
+        entityManager.clear();
+    }
+
+    private void applyDto(Project project, ProjectDto projectDto) {
+        applyDto(project, projectDto, taxonomyDictionary.resolve(
+                orEmpty(projectDto.getTags()), orEmpty(projectDto.getTechnologies())));
+    }
+
+    private void applyDto(Project project, ProjectDto projectDto, TaxonomyDictionary.Lookup taxonomy) {
+        project.setTitle(projectDto.getTitle());
+        project.setDescription(projectDto.getDescription());
+        project.setContent(projectDto.getContent());
+        project.setThumbnail(projectDto.getThumbnail());
+        project.setGithubUrl(projectDto.getGithubUrl());
+        project.setLiveUrl(projectDto.getLiveUrl());
+        project.setFeatured(Boolean.TRUE.equals(projectDto.getFeatured()));
+        project.setPublished(Boolean.TRUE.equals(projectDto.getPublished()));
+
+        project.setTechnologies(taxonomy.technologies(projectDto.getTechnologies()));
+        project.setTags(taxonomy.tags(projectDto.getTags()));
+
+        // Videos and images are owned by the project, so replace them in place to let
+        // orphanRemoval delete the rows that are no longer present
+        project.getVideos().clear();
+        if (projectDto.getVideos() != null) {
+            for (VideoDto videoDto : projectDto.getVideos()) {
+                project.getVideos().add(projectMapper.toEntity(videoDto, project));
+            }
+        }
+
+        project.getImages().clear();
+        if (projectDto.getImages() != null) {
+            for (ProjectImageDto imageDto : projectDto.getImages()) {
+                project.getImages().add(projectMapper.toEntity(imageDto, project));
+            }
+        }
+    }
+
+    private ProjectSummaryDto toSummaryDto(ProjectSummaryView summary, List<String> tags) {
+        return new ProjectSummaryDto(summary.getId(), summary.getTitle(), summary.getSlug(),
+                summary.getDescription(), summary.getThumbnail(), summary.getFeatured(), tags);
+    }
+
+    /**
+     * Unique slug for an import batch: {@code takenSlugs} holds the slugs already in the
+     * database and those assigned earlier in the batch. A collision loads the suffixed
+     * variants of that base once, so probing happens in memory rather than query by query.
+     */
+    private String uniqueImportSlug(String baseSlug, Set<String> takenSlugs) {
+        String slug = baseSlug;
+        if (takenSlugs.contains(slug)) {
+            takenSlugs.addAll(projectRepository.findSlugsWithPrefix(baseSlug));
+            int suffix = 2;
+            do {
+                slug = baseSlug + "-" + suffix++;
+            } while (takenSlugs.contains(slug));
+        }
+        takenSlugs.add(slug);
+        return slug;
+    }
+
+    private String uniqueSlug(String source, String currentSlug) {
+        String baseSlug = SlugUtil.createSlug(source);
+        String slug = baseSlug;
+        int suffix = 2;
+        while (!slug.equals(currentSlug) && projectRepository.existsBySlug(slug)) {
+            slug = baseSlug + "-" + suffix++;
+        }
+        return slug;
+    }
+
+    private User currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return userRepository.findByUsername(authentication.getName()).orElse(null);
+    }
+
+    private static <T> Collection<T> orEmpty(Collection<T> values) {
+        return values != null ? values : List.of();
+    }
+
+    private static <T> void addAll(List<T> target, Collection<T> values) {
+        if (values != null) {
+            target.addAll(values);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,249 @@
+package com.portfolio.backend.taxonomy;
+
+import com.portfolio.backend.dto.TagDto;
+import com.portfolio.backend.dto.TechnologyDto;
+import com.portfolio.backend.model.Tag;
+import com.portfolio.backend.model.Technology;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.dialect.sequence.SequenceSupport;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps the {@code tags} and {@code technologies} tables resident so project writes can
+ * resolve names without querying. Readers see an immutable snapshot that is replaced
+ * atomically; nothing is locked on the read path.
+ * <p>
+ * Names missing from the snapshot are inserted with one batched statement per table and
+ * their ids read back with one {@code IN} query. The inserts join the caller's transaction,
+ * and the new entries reach the shared snapshot only once it commits, so a rollback never
+ * leaves ids behind that don't exist. Names match case-insensitively, as they do under the
+ * SQL Server collation used in production; the SQL compares {@code LOWER(name)} so the other
+ * databases agree.
+ */
+@Component
+public class TaxonomyDictionary {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final String insertTag;
+    private final String insertTechnology;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    public TaxonomyDictionary(NamedParameterJdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+        // Ids come from the entities' sequences, in the database's own syntax. A value taken
+        // directly is the top of a block Hibernate's pooled optimizer never hands out, so the
+        // two can't collide; the schema may have no column default to fall back on. The guard
+        // compares lower-cased, like the snapshot keys, or a name differing only in case from one
+        // another instance just added would be inserted again on a case-sensitive collation.
+        SequenceSupport sequences = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect().getSequenceSupport();
+        this.insertTag = "INSERT INTO tags (id, name) SELECT " + sequences.getSelectSequenceNextValString("tags_seq")
+                + ", ? WHERE NOT EXISTS (SELECT 1 FROM tags WHERE LOWER(name) = LOWER(?))";
+        this.insertTechnology = "INSERT INTO technologies (id, name, icon) SELECT "
+                + sequences.getSelectSequenceNextValString("technologies_seq")
+                + ", ?, ? WHERE NOT EXISTS (SELECT 1 FROM technologies WHERE LOWER(name) = LOWER(?))";
+    }
+
+    /**
+     * Resolves every tag and technology name in the given DTOs, inserting the unknown ones.
+     * Call this once for all the projects of a write, then build each project's associations
+     * from the returned {@link Lookup} without further queries.
+     */
+    public Lookup resolve(Collection<TagDto> tags, Collection<TechnologyDto> technologies) {
+        Snapshot current = current();
+
+        Map<String, String> missingTags = new LinkedHashMap<>();
+        for (TagDto tag : tags) {
+            if (hasText(tag.getName()) && !current.tags.containsKey(key(tag.getName()))) {
+                missingTags.putIfAbsent(key(tag.getName()), tag.getName());
+            }
+        }
+        Map<String, TechnologyDto> missingTechnologies = new LinkedHashMap<>();
+        for (TechnologyDto technology : technologies) {
+            if (hasText(technology.getName()) && !current.technologies.containsKey(key(technology.getName()))) {
+                missingTechnologies.putIfAbsent(key(technology.getName()), technology);
+            }
+        }
+        if (missingTags.isEmpty() && missingTechnologies.isEmpty()) {
+            return new Lookup(current.tags, current.technologies);
+        }
+
+        Map<String, Entry> createdTags = missingTags.isEmpty()
+                ? Map.of() : insertTags(new ArrayList<>(missingTags.values()));
+        Map<String, Entry> createdTechnologies = missingTechnologies.isEmpty()
+                ? Map.of() : insertTechnologies(new ArrayList<>(missingTechnologies.values()));
+        publishAfterCommit(createdTags, createdTechnologies);
+        return new Lookup(merge(current.tags, createdTags), merge(current.technologies, createdTechnologies));
+    }
+
+    /**
+     * Re-reads both tables, for changes made outside the application.
+     */
+    public void reload() {
+        snapshot.set(load());
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            // Concurrent first callers may both load; either result is a valid snapshot
+            snapshot.compareAndSet(null, load());
+            current = snapshot.get();
+        }
+        return current;
+    }
+
+    private Snapshot load() {
+        Map<String, Entry> tags = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM tags ORDER BY id", rs -> {
+            tags.putIfAbsent(key(rs.getString("name")), new Entry(rs.getLong("id"), rs.getString("name"), null));
+        });
+        Map<String, Entry> technologies = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name, icon FROM technologies ORDER BY id", rs -> {
+            technologies.putIfAbsent(key(rs.getString("name")),
+                    new Entry(rs.getLong("id"), rs.getString("name"), rs.getString("icon")));
+        });
+        return new Snapshot(Collections.unmodifiableMap(tags), Collections.unmodifiableMap(technologies));
+    }
+
+    private Map<String, Entry> insertTags(List<String> names) {
+        // Insert-if-absent: a name another instance added since our snapshot is simply skipped
+        jdbcTemplate.getJdbcTemplate().batchUpdate(insertTag, names, names.size(), (ps, name) -> {
+            ps.setString(1, name);
+            ps.setString(2, name);
+        });
+        // Reads back the existing row too when one differing only in case was there already
+        List<String> keys = names.stream().map(TaxonomyDictionary::key).toList();
+        Map<String, Entry> created = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name FROM tags WHERE LOWER(name) IN (:keys) ORDER BY id", Map.of("keys", keys), rs -> {
+            created.putIfAbsent(key(rs.getString("name")), new Entry(rs.getLong("id"), rs.getString("name"), null));
+        });
+        return created;
+    }
+
+    private Map<String, Entry> insertTechnologies(List<TechnologyDto> technologies) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(insertTechnology, technologies, technologies.size(), (ps, technology) -> {
+            ps.setString(1, technology.getName());
+            ps.setString(2, technology.getIcon());
+            ps.setString(3, technology.getName());
+        });
+        List<String> keys = technologies.stream().map(technology -> key(technology.getName())).toList();
+        Map<String, Entry> created = new HashMap<>();
+        jdbcTemplate.query("SELECT id, name, icon FROM technologies WHERE LOWER(name) IN (:keys) ORDER BY id", Map.of("keys", keys), rs -> {
+            created.putIfAbsent(key(rs.getString("name")),
+                    new Entry(rs.getLong("id"), rs.getString("name"), rs.getString("icon")));
+        });
+        return created;
+    }
+
+    private void publishAfterCommit(Map<String, Entry> createdTags, Map<String, Entry> createdTechnologies) {
+        Runnable publish = () -> snapshot.updateAndGet(current -> current == null ? null : new Snapshot(
+                merge(current.tags, createdTags), merge(current.technologies, createdTechnologies)));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish.run();
+                }
+            });
+        } else {
+            publish.run();
+        }
+    }
+
+    private static Map<String, Entry> merge(Map<String, Entry> entries, Map<String, Entry> added) {
+        if (added.isEmpty()) {
+            return entries;
+        }
+        Map<String, Entry> merged = new HashMap<>(entries);
+        added.forEach(merged::putIfAbsent);
+        return Collections.unmodifiableMap(merged);
+    }
+
+    private static String key(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+
+    /**
+     * Name-to-entity resolution for one write. The entities it hands out are fresh detached
+     * instances carrying id and name, which is all a join-table row or a DTO needs, so
+     * neither persisting nor mapping the project loads them.
+     */
+    public static class Lookup {
+        private final Map<String, Entry> tags;
+        private final Map<String, Entry> technologies;
+
+        Lookup(Map<String, Entry> tags, Map<String, Entry> technologies) {
+            this.tags = tags;
+            this.technologies = technologies;
+        }
+
+        public Set<Tag> tags(Collection<TagDto> tagDtos) {
+            Set<Tag> resolved = new HashSet<>();
+            if (tagDtos != null) {
+                for (TagDto tagDto : tagDtos) {
+                    Entry entry = hasText(tagDto.getName()) ? tags.get(key(tagDto.getName())) : null;
+                    if (entry != null) {
+                        resolved.add(new Tag(entry.id, entry.name, new HashSet<>()));
+                    }
+                }
+            }
+            return resolved;
+        }
+
+        public Set<Technology> technologies(Collection<TechnologyDto> technologyDtos) {
+            Set<Technology> resolved = new HashSet<>();
+            if (technologyDtos != null) {
+                for (TechnologyDto technologyDto : technologyDtos) {
+                    Entry entry = hasText(technologyDto.getName()) ? technologies.get(key(technologyDto.getName())) : null;
+                    if (entry != null) {
+                        resolved.add(new Technology(entry.id, entry.name, entry.icon, new HashSet<>()));
+                    }
+                }
+            }
+            return resolved;
+        }
+    }
+
+    private static class Entry {
+        private final long id;
+        private final String name;
+        private final String icon;
+
+        Entry(long id, String name, String icon) {
+            this.id = id;
+            this.name = name;
+            this.icon = icon;
+        }
+    }
+
+    private static class Snapshot {
+        private final Map<String, Entry> tags;
+        private final Map<String, Entry> technologies;
+
+        Snapshot(Map<String, Entry> tags, Map<String, Entry> technologies) {
+            this.tags = tags;
+            this.technologies = technologies;
+        }
+    }
+}
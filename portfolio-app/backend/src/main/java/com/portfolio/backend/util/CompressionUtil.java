@@ -0,0 +1,36 @@
+package com.portfolio.backend.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+public class CompressionUtil {
+
+    /**
+     * Bodies smaller than this gain too little from compression to be worth a second copy.
+     */
+    public static final int MIN_COMPRESSIBLE_SIZE = 1024;
+
+    /**
+     * Gzip at the best compression level, for bodies compressed once and served many times;
+     * null when the input is too small or does not shrink.
+     */
+    public static byte[] gzipIfSmaller(byte[] input) {
+        if (input.length < MIN_COMPRESSIBLE_SIZE) {
+            return null;
+        }
+        ByteArrayOutputStream output = new ByteArrayOutputStream(input.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return output.size() < input.length ? output.toByteArray() : null;
+    }
+}
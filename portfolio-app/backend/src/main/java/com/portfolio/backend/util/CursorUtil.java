@@ -0,0 +1,54 @@
+package com.portfolio.backend.util;
+
+import com.portfolio.backend.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursors over (createdAt, id). The cursor is the position of the last row
+ * returned; clients must treat it as an opaque token.
+ */
+public class CursorUtil {
+
+    public static String encode(ZonedDateTime createdAt, Long id) {
+        Instant instant = createdAt.toInstant();
+        String position = instant.getEpochSecond() + ":" + instant.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = position.split(":");
+            if (parts.length != 3) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            Instant instant = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new Cursor(ZonedDateTime.ofInstant(instant, ZoneOffset.UTC), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public static class Cursor {
+        private final ZonedDateTime createdAt;
+        private final Long id;
+
+        public Cursor(ZonedDateTime createdAt, Long id) {
+            this.createdAt = createdAt;
+            this.id = id;
+        }
+
+        public ZonedDateTime getCreatedAt() {
+            return createdAt;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+}
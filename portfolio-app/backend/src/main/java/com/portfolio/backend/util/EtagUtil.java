@@ -0,0 +1,56 @@
+package com.portfolio.backend.util;
+
+import com.portfolio.backend.dto.ProjectDto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.HexFormat;
+
+public class EtagUtil {
+
+    /**
+     * Strong ETag over the id and updatedAt of every project in the response plus any
+     * qualifiers that shape the response (page number, totals), so a change to any row or to
+     * the set of rows yields a new tag.
+     */
+    public static String projectsEtag(Collection<ProjectDto> projects, Object... qualifiers) {
+        StringBuilder version = new StringBuilder(projects.size() * 24);
+        for (Object qualifier : qualifiers) {
+            version.append(qualifier).append('|');
+        }
+        for (ProjectDto project : projects) {
+            version.append(project.getId()).append(':');
+            if (project.getUpdatedAt() != null) {
+                version.append(project.getUpdatedAt().toInstant().toEpochMilli());
+            }
+            version.append(';');
+        }
+        return "\"" + sha256Hex(version.toString()).substring(0, 32) + "\"";
+    }
+
+    /**
+     * Most recent updatedAt across the projects, or null when none carry one.
+     */
+    public static ZonedDateTime lastModified(Collection<ProjectDto> projects) {
+        ZonedDateTime lastModified = null;
+        for (ProjectDto project : projects) {
+            ZonedDateTime updatedAt = project.getUpdatedAt();
+            if (updatedAt != null && (lastModified == null || updatedAt.isAfter(lastModified))) {
+                lastModified = updatedAt;
+            }
+        }
+        return lastModified;
+    }
+
+    private static String sha256Hex(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -1,26 +1,84 @@
 package com.portfolio.backend.util;
 
 import java.text.Normalizer;
-import java.util.Locale;
-import java.util.regex.Pattern;
 
+/**
+ * Turns titles into URL slugs: whitespace becomes '-', accents are stripped via NFD,
+ * anything outside [A-Za-z0-9_-] is dropped, dash runs collapse to one, the result is
+ * lower-cased and a leading or trailing dash is trimmed.
+ * <p>
+ * This is a single pass over a char array. Pure ASCII input skips normalization entirely,
+ * since NFD leaves ASCII unchanged. The output matches the original regex pipeline
+ * ({@code [\s]} to '-', NFD, remove {@code [^\w-]}, collapse {@code -+}, lower-case,
+ * trim {@code ^-|-$}) character for character.
+ */
 public class SlugUtil {
-    private static final Pattern NONLATIN = Pattern.compile("[^\\w-]");
-    private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
-    private static final Pattern MULTIPLE_DASHES = Pattern.compile("-+");
 
     public static String createSlug(String input) {
         if (input == null) {
             return "";
         }
 
-        String nowhitespace = WHITESPACE.matcher(input).replaceAll("-");
-        String normalized = Normalizer.normalize(nowhitespace, Normalizer.Form.NFD);
-        String slug = NONLATIN.matcher(normalized).replaceAll("");
-        slug = MULTIPLE_DASHES.matcher(slug).replaceAll("-");
-        slug = slug.toLowerCase(Locale.ENGLISH);
-        slug = slug.replaceAll("^-|-$", "");
-        
-        return slug;
+        int length = input.length();
+        for (int i = 0; i < length; i++) {
+            if (input.charAt(i) >= 0x80) {
+                return createSlugNormalized(input);
+            }
+        }
+        return slugify(input, true);
+    }
+
+    /**
+     * Non-ASCII input: whitespace is turned into dashes before normalizing, exactly as the
+     * regex pipeline did, so any whitespace NFD itself produces is dropped rather than dashed.
+     */
+    private static String createSlugNormalized(String input) {
+        StringBuilder dashed = new StringBuilder(input.length());
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            dashed.append(isWhitespace(c) ? '-' : c);
+        }
+        return slugify(Normalizer.normalize(dashed, Normalizer.Form.NFD), false);
+    }
+
+    private static String slugify(String text, boolean whitespaceIsDash) {
+        int length = text.length();
+        char[] slug = new char[length];
+        int size = 0;
+        boolean pendingDash = false;
+        boolean rewritten = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c >= 'a' && c <= 'z' || c >= '0' && c <= '9' || c == '_') {
+                // Fall through to append
+            } else if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+                rewritten = true;
+            } else if (c == '-') {
+                pendingDash = true;
+                continue;
+            } else {
+                if (whitespaceIsDash && isWhitespace(c)) {
+                    pendingDash = true;
+                }
+                rewritten = true;
+                continue;
+            }
+            // Dashes are emitted lazily, which collapses runs and drops leading/trailing ones
+            if (pendingDash && size > 0) {
+                slug[size++] = '-';
+            }
+            pendingDash = false;
+            slug[size++] = c;
+        }
+
+        // Input that already is a slug comes back as the same instance
+        return !rewritten && size == length ? text : new String(slug, 0, size);
+    }
+
+    // The regex class [\s]: ASCII whitespace only
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,176 @@
+package com.portfolio.backend.web;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+/**
+ * Makes {@code server.compression.min-response-size} hold for streamed bodies too. Tomcat
+ * can only skip compressing a small response when it knows the length up front, and Spring
+ * MVC writes JSON without one, so every such response would otherwise be gzipped however
+ * small. Here the first bytes of a body are held back: a body that ends within the
+ * threshold goes out with its Content-Length (and uncompressed), while one that outgrows
+ * it is released and streamed as before.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+    private final int threshold;
+
+    public CompressionThresholdFilter(@Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+        this.threshold = Math.toIntExact(minResponseSize.toBytes());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        ThresholdResponse thresholdResponse = new ThresholdResponse(response, threshold);
+        filterChain.doFilter(request, thresholdResponse);
+        if (request.isAsyncStarted()) {
+            // The body is still being written elsewhere; stop holding it back
+            thresholdResponse.release();
+        } else {
+            thresholdResponse.finish();
+        }
+    }
+
+    private static class ThresholdResponse extends HttpServletResponseWrapper {
+
+        private final int threshold;
+        private final ByteArrayOutputStream held = new ByteArrayOutputStream();
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private boolean released;
+        private boolean lengthSet;
+
+        ThresholdResponse(HttpServletResponse response, int threshold) {
+            super(response);
+            this.threshold = threshold;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            lengthSet = true;
+            super.setContentLength(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+            lengthSet = true;
+            super.setContentLengthLong(length);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            if (outputStream == null) {
+                outputStream = new ThresholdOutputStream();
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            // Flushing while bytes are held back would commit the response without a length
+            if (released) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+            held.reset();
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+            held.reset();
+            lengthSet = false;
+            super.reset();
+        }
+
+        void release() throws IOException {
+            if (!released) {
+                released = true;
+                if (held.size() > 0) {
+                    getResponse().getOutputStream().write(held.toByteArray());
+                    held.reset();
+                }
+            }
+        }
+
+        void finish() throws IOException {
+            if (writer != null) {
+                writer.flush();
+            }
+            if (!released && held.size() > 0 && !lengthSet && !isCommitted()) {
+                super.setContentLength(held.size());
+            }
+            release();
+        }
+
+        private class ThresholdOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                if (!released && (lengthSet || held.size() + len > threshold)) {
+                    // Either the length is already declared or the body is big enough to compress
+                    release();
+                }
+                if (released) {
+                    getResponse().getOutputStream().write(b, off, len);
+                } else {
+                    held.write(b, off, len);
+                }
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (released) {
+                    getResponse().getOutputStream().flush();
+                }
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException("Non-blocking writes are not supported");
+            }
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.portfolio.backend.web;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.portfolio.backend.config.CacheConfig;
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.SerializedBody;
+import com.portfolio.backend.profiling.RequestProfile;
+import com.portfolio.backend.util.EtagUtil;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Serialized project response bodies, each with a gzipped copy when it is big enough, so
+ * both serializing and compressing happen once per content version rather than once per
+ * request. Detail bodies are keyed by project id and updatedAt, list bodies by their ETag,
+ * which already covers the id and updatedAt of every row plus the paging qualifiers. A
+ * write changes those keys, so a cached body can never outlive the version it was made
+ * from and nothing needs evicting; superseded versions simply age out of the byte-bounded
+ * cache.
+ * <p>
+ * Bodies are written with the same {@link ObjectMapper} Spring MVC uses, so they are
+ * byte-for-byte what the message converter would have produced.
+ */
+@Component
+public class ProjectBodyCache {
+
+    private final Cache bodies;
+    private final ObjectMapper objectMapper;
+
+    public ProjectBodyCache(CacheManager cacheManager, ObjectMapper objectMapper) {
+        this.bodies = cacheManager.getCache(CacheConfig.PROJECT_BODIES);
+        this.objectMapper = objectMapper;
+    }
+
+    public SerializedBody get(ProjectDto project) {
+        long version = project.getUpdatedAt() != null ? project.getUpdatedAt().toInstant().toEpochMilli() : 0;
+        return bodies.get(List.of(project.getId(), version), () -> serialize(project));
+    }
+
+    /**
+     * Body of a list response. {@code kind} names the endpoint, so two endpoints whose
+     * qualifiers happen to hash alike never share an entry.
+     */
+    public SerializedBody get(String kind, Object body, Collection<ProjectDto> projects, Object... qualifiers) {
+        String etag = EtagUtil.projectsEtag(projects, qualifiers);
+        return bodies.get(List.of(kind, etag), () -> serialize(body, etag, projects));
+    }
+
+    private SerializedBody serialize(ProjectDto project) throws JsonProcessingException {
+        List<ProjectDto> projects = List.of(project);
+        return serialize(project, EtagUtil.projectsEtag(projects), projects);
+    }
+
+    private SerializedBody serialize(Object body, String etag, Collection<ProjectDto> projects)
+            throws JsonProcessingException {
+        long start = System.nanoTime();
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        RequestProfile.recordSerialization(System.nanoTime() - start);
+        return SerializedBody.of(bytes, etag, EtagUtil.lastModified(projects));
+    }
+}
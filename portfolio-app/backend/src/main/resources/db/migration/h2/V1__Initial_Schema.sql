@@ -0,0 +1,95 @@
+-- Users Table
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(50) NOT NULL UNIQUE,
+    email VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255) NOT NULL,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    bio CHARACTER VARYING,
+    profile_image VARCHAR(255),
+    role VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Projects Table
+CREATE TABLE projects (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    slug VARCHAR(255) NOT NULL UNIQUE,
+    description CHARACTER VARYING,
+    content CHARACTER VARYING NOT NULL,
+    thumbnail VARCHAR(255),
+    github_url VARCHAR(255),
+    live_url VARCHAR(255),
+    featured BOOLEAN DEFAULT FALSE,
+    published BOOLEAN DEFAULT FALSE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    user_id BIGINT REFERENCES users(id)
+);
+
+-- Technologies Table
+CREATE TABLE technologies (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE,
+    icon VARCHAR(255)
+);
+
+-- Project Technologies (Junction Table)
+CREATE TABLE project_technologies (
+    project_id BIGINT REFERENCES projects(id) ON DELETE CASCADE,
+    technology_id BIGINT REFERENCES technologies(id) ON DELETE CASCADE,
+    PRIMARY KEY (project_id, technology_id)
+);
+
+-- Videos Table
+CREATE TABLE videos (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    url VARCHAR(255) NOT NULL,
+    thumbnail VARCHAR(255),
+    description CHARACTER VARYING,
+    order_index INT DEFAULT 0,
+    project_id BIGINT REFERENCES projects(id) ON DELETE CASCADE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Tags Table
+CREATE TABLE tags (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(100) NOT NULL UNIQUE
+);
+
+-- Project Tags (Junction Table)
+CREATE TABLE project_tags (
+    project_id BIGINT REFERENCES projects(id) ON DELETE CASCADE,
+    tag_id BIGINT REFERENCES tags(id) ON DELETE CASCADE,
+    PRIMARY KEY (project_id, tag_id)
+);
+
+-- Images Table for Project Gallery
+CREATE TABLE project_images (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    url VARCHAR(255) NOT NULL,
+    alt_text VARCHAR(255),
+    order_index INT DEFAULT 0,
+    project_id BIGINT REFERENCES projects(id) ON DELETE CASCADE,
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Insert default admin user (password: admin)
+INSERT INTO users (username, email, password, role, first_name, last_name)
+VALUES ('admin', 'admin@example.com', '$2a$10$dXJ3SW6G7P50lGmMkkmwe.20cQQubK3.HZWzG3YB1tlRy.fqvM/BG', 'ROLE_ADMIN', 'Admin', 'User');
+
+-- Insert sample technologies
+INSERT INTO technologies (name, icon) VALUES 
+('Java', 'java'),
+('Spring Boot', 'spring'),
+('React', 'react'),
+('TypeScript', 'typescript'),
+('SQL Server', 'sqlserver'),
+('Docker', 'docker'),
+('Azure', 'azure'); 
\ No newline at end of file
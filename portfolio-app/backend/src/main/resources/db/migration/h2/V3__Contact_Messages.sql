@@ -0,0 +1,20 @@
+-- Outbox for contact form submissions, drained by the contact email dispatcher.
+-- Rows in status DEAD form the dead-letter store.
+CREATE TABLE contact_messages (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    company VARCHAR(255),
+    email VARCHAR(255),
+    phone VARCHAR(255),
+    subject VARCHAR(255) NOT NULL,
+    message CHARACTER VARYING NOT NULL,
+    wants_reply BOOLEAN DEFAULT FALSE,
+    status VARCHAR(20) NOT NULL,
+    attempts INT DEFAULT 0,
+    next_attempt_at TIMESTAMP WITH TIME ZONE,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP WITH TIME ZONE DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP WITH TIME ZONE
+);
+
+CREATE INDEX idx_contact_messages_status_next_attempt ON contact_messages (status, next_attempt_at);
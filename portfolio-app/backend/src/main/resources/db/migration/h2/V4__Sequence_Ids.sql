@@ -0,0 +1,35 @@
+-- Move the entity tables from IDENTITY columns to sequences. Hibernate takes ids 50 at a time
+-- (pooled optimizer: each NEXT VALUE is the top of a block of 50), which lets it batch inserts.
+-- The sequences also back the id defaults, so hand-written inserts keep working alongside it.
+-- Each sequence starts one block past the table's highest id. contact_messages keeps IDENTITY;
+-- it is written a row at a time.
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE users_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE users_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM users);
+ALTER TABLE users ALTER COLUMN id SET DEFAULT NEXT VALUE FOR users_seq;
+
+ALTER TABLE projects ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE projects_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE projects_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM projects);
+ALTER TABLE projects ALTER COLUMN id SET DEFAULT NEXT VALUE FOR projects_seq;
+
+ALTER TABLE technologies ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE technologies_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE technologies_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM technologies);
+ALTER TABLE technologies ALTER COLUMN id SET DEFAULT NEXT VALUE FOR technologies_seq;
+
+ALTER TABLE tags ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE tags_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE tags_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM tags);
+ALTER TABLE tags ALTER COLUMN id SET DEFAULT NEXT VALUE FOR tags_seq;
+
+ALTER TABLE videos ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE videos_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE videos_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM videos);
+ALTER TABLE videos ALTER COLUMN id SET DEFAULT NEXT VALUE FOR videos_seq;
+
+ALTER TABLE project_images ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE project_images_seq START WITH 50 INCREMENT BY 50;
+ALTER SEQUENCE project_images_seq RESTART WITH (SELECT COALESCE(MAX(id), 0) + 50 FROM project_images);
+ALTER TABLE project_images ALTER COLUMN id SET DEFAULT NEXT VALUE FOR project_images_seq;
@@ -0,0 +1,35 @@
+-- Move the entity tables from IDENTITY columns to sequences. Hibernate takes ids 50 at a time
+-- (pooled optimizer: each NEXT VALUE is the top of a block of 50), which lets it batch inserts.
+-- The sequences also back the id defaults, so hand-written inserts keep working alongside it.
+-- Each sequence starts one block past the table's highest id. contact_messages keeps IDENTITY;
+-- it is written a row at a time.
+
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE users_seq START WITH 50 INCREMENT BY 50 OWNED BY users.id;
+SELECT setval('users_seq', COALESCE(MAX(id), 0) + 50, false) FROM users;
+ALTER TABLE users ALTER COLUMN id SET DEFAULT nextval('users_seq');
+
+ALTER TABLE projects ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE projects_seq START WITH 50 INCREMENT BY 50 OWNED BY projects.id;
+SELECT setval('projects_seq', COALESCE(MAX(id), 0) + 50, false) FROM projects;
+ALTER TABLE projects ALTER COLUMN id SET DEFAULT nextval('projects_seq');
+
+ALTER TABLE technologies ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE technologies_seq START WITH 50 INCREMENT BY 50 OWNED BY technologies.id;
+SELECT setval('technologies_seq', COALESCE(MAX(id), 0) + 50, false) FROM technologies;
+ALTER TABLE technologies ALTER COLUMN id SET DEFAULT nextval('technologies_seq');
+
+ALTER TABLE tags ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE tags_seq START WITH 50 INCREMENT BY 50 OWNED BY tags.id;
+SELECT setval('tags_seq', COALESCE(MAX(id), 0) + 50, false) FROM tags;
+ALTER TABLE tags ALTER COLUMN id SET DEFAULT nextval('tags_seq');
+
+ALTER TABLE videos ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE videos_seq START WITH 50 INCREMENT BY 50 OWNED BY videos.id;
+SELECT setval('videos_seq', COALESCE(MAX(id), 0) + 50, false) FROM videos;
+ALTER TABLE videos ALTER COLUMN id SET DEFAULT nextval('videos_seq');
+
+ALTER TABLE project_images ALTER COLUMN id DROP IDENTITY;
+CREATE SEQUENCE project_images_seq START WITH 50 INCREMENT BY 50 OWNED BY project_images.id;
+SELECT setval('project_images_seq', COALESCE(MAX(id), 0) + 50, false) FROM project_images;
+ALTER TABLE project_images ALTER COLUMN id SET DEFAULT nextval('project_images_seq');
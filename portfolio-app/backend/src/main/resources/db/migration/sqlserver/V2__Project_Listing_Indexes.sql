@@ -0,0 +1,3 @@
+-- Keyset pagination over (created_at, id), with and without the published filter
+CREATE INDEX idx_projects_created_at_id ON projects (created_at DESC, id DESC);
+CREATE INDEX idx_projects_published_created_at_id ON projects (published, created_at DESC, id DESC);
@@ -0,0 +1,20 @@
+-- Outbox for contact form submissions, drained by the contact email dispatcher.
+-- Rows in status DEAD form the dead-letter store.
+CREATE TABLE contact_messages (
+    id BIGINT IDENTITY(1,1) PRIMARY KEY,
+    name NVARCHAR(255) NOT NULL,
+    company NVARCHAR(255),
+    email NVARCHAR(255),
+    phone NVARCHAR(255),
+    subject NVARCHAR(255) NOT NULL,
+    message NVARCHAR(MAX) NOT NULL,
+    wants_reply BIT DEFAULT 0,
+    status NVARCHAR(20) NOT NULL,
+    attempts INT DEFAULT 0,
+    next_attempt_at DATETIME2,
+    last_error NVARCHAR(1000),
+    created_at DATETIME2 DEFAULT GETDATE(),
+    sent_at DATETIME2
+);
+
+CREATE INDEX idx_contact_messages_status_next_attempt ON contact_messages (status, next_attempt_at);
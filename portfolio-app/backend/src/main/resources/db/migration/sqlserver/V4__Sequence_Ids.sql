@@ -0,0 +1,175 @@
+-- Move the entity tables from IDENTITY columns to sequences. Hibernate takes ids 50 at a time
+-- (pooled optimizer: each NEXT VALUE is the top of a block of 50), which lets it batch inserts.
+-- The sequences also back the id defaults, so hand-written inserts keep working alongside it.
+--
+-- SQL Server can't drop IDENTITY from a column, so each table is rebuilt: foreign keys into the
+-- rebuilt tables are dropped, rows are copied into a new table with their ids, and the keys are
+-- added back, now named, at the end. contact_messages keeps IDENTITY; it is written a row at a time.
+--
+-- Flyway sends a SQL Server script as one batch unless it is split with GO, and variables are
+-- scoped to the batch, so every section below is its own batch.
+
+-- The foreign keys were declared inline in V1, so their names were generated
+BEGIN
+    DECLARE @sql NVARCHAR(MAX) = N'';
+    SELECT @sql = @sql + N'ALTER TABLE ' + QUOTENAME(OBJECT_NAME(parent_object_id))
+                + N' DROP CONSTRAINT ' + QUOTENAME(name) + N'; '
+    FROM sys.foreign_keys
+    WHERE OBJECT_NAME(referenced_object_id) IN (N'users', N'projects', N'technologies', N'tags');
+    EXEC sp_executesql @sql;
+END;
+
+GO
+
+-- Each sequence starts one block past the table's highest id
+BEGIN
+    DECLARE @start BIGINT;
+    DECLARE @sql NVARCHAR(400);
+
+    SELECT @start = COALESCE(MAX(id), 0) + 50 FROM users;
+    SET @sql = N'CREATE SEQUENCE users_seq AS BIGINT START WITH ' + CAST(@start AS NVARCHAR(20)) + N' INCREMENT BY 50';
+    EXEC sp_executesql @sql;
+
+    SELECT @start = COALESCE(MAX(id), 0) + 50 FROM projects;
+    SET @sql = N'CREATE SEQUENCE projects_seq AS BIGINT START WITH ' + CAST(@start AS NVARCHAR(20)) + N' INCREMENT BY 50';
+    EXEC sp_executesql @sql;
+
+    SELECT @start = COALESCE(MAX(id), 0) + 50 FROM technologies;
+    SET @sql = N'CREATE SEQUENCE technologies_seq AS BIGINT START WITH ' + CAST(@start AS NVARCHAR(20)) + N' INCREMENT BY 50';
+    EXEC sp_executesql @sql;
+
+    SELECT @start = COALESCE(MAX(id), 0) + 50 FROM tags;
+    SET @sql = N'CREATE SEQUENCE tags_seq AS BIGINT START WITH ' + CAST(@start AS NVARCHAR(20)) + N' INCREMENT BY 50';
+    EXEC sp_executesql @sql;
+
+    SELECT @start = COALESCE(MAX(id), 0) + 50 FROM videos;
+    SET @sql = N'CREATE SEQUENCE videos_seq AS BIGINT START WITH ' + CAST(@start AS NVARCHAR(20)) + N' INCREMENT BY 50';
+    EXEC sp_executesql @sql;
+
+    SELECT @start = COALESCE(MAX(id), 0) + 50 FROM project_images;
+    SET @sql = N'CREATE SEQUENCE project_images_seq AS BIGINT START WITH ' + CAST(@start AS NVARCHAR(20)) + N' INCREMENT BY 50';
+    EXEC sp_executesql @sql;
+END;
+
+GO
+
+-- Users
+CREATE TABLE users_new (
+    id BIGINT NOT NULL CONSTRAINT df_users_id DEFAULT (NEXT VALUE FOR users_seq) PRIMARY KEY,
+    username NVARCHAR(50) NOT NULL UNIQUE,
+    email NVARCHAR(255) NOT NULL UNIQUE,
+    password NVARCHAR(255) NOT NULL,
+    first_name NVARCHAR(100),
+    last_name NVARCHAR(100),
+    bio NVARCHAR(MAX),
+    profile_image NVARCHAR(255),
+    role NVARCHAR(20) NOT NULL,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    updated_at DATETIME2 DEFAULT GETDATE()
+);
+INSERT INTO users_new (id, username, email, password, first_name, last_name, bio, profile_image, role, created_at, updated_at)
+SELECT id, username, email, password, first_name, last_name, bio, profile_image, role, created_at, updated_at FROM users;
+DROP TABLE users;
+EXEC sp_rename N'users_new', N'users';
+
+GO
+
+-- Projects
+CREATE TABLE projects_new (
+    id BIGINT NOT NULL CONSTRAINT df_projects_id DEFAULT (NEXT VALUE FOR projects_seq) PRIMARY KEY,
+    title NVARCHAR(255) NOT NULL,
+    slug NVARCHAR(255) NOT NULL UNIQUE,
+    description NVARCHAR(MAX),
+    content NVARCHAR(MAX) NOT NULL,
+    thumbnail NVARCHAR(255),
+    github_url NVARCHAR(255),
+    live_url NVARCHAR(255),
+    featured BIT DEFAULT 0,
+    published BIT DEFAULT 0,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    updated_at DATETIME2 DEFAULT GETDATE(),
+    user_id BIGINT
+);
+INSERT INTO projects_new (id, title, slug, description, content, thumbnail, github_url, live_url, featured, published, created_at, updated_at, user_id)
+SELECT id, title, slug, description, content, thumbnail, github_url, live_url, featured, published, created_at, updated_at, user_id FROM projects;
+DROP TABLE projects;
+EXEC sp_rename N'projects_new', N'projects';
+-- V2's keyset pagination indexes went with the old table
+CREATE INDEX idx_projects_created_at_id ON projects (created_at DESC, id DESC);
+CREATE INDEX idx_projects_published_created_at_id ON projects (published, created_at DESC, id DESC);
+
+GO
+
+-- Technologies
+CREATE TABLE technologies_new (
+    id BIGINT NOT NULL CONSTRAINT df_technologies_id DEFAULT (NEXT VALUE FOR technologies_seq) PRIMARY KEY,
+    name NVARCHAR(100) NOT NULL UNIQUE,
+    icon NVARCHAR(255)
+);
+INSERT INTO technologies_new (id, name, icon) SELECT id, name, icon FROM technologies;
+DROP TABLE technologies;
+EXEC sp_rename N'technologies_new', N'technologies';
+
+GO
+
+-- Tags
+CREATE TABLE tags_new (
+    id BIGINT NOT NULL CONSTRAINT df_tags_id DEFAULT (NEXT VALUE FOR tags_seq) PRIMARY KEY,
+    name NVARCHAR(100) NOT NULL UNIQUE
+);
+INSERT INTO tags_new (id, name) SELECT id, name FROM tags;
+DROP TABLE tags;
+EXEC sp_rename N'tags_new', N'tags';
+
+GO
+
+-- Videos
+CREATE TABLE videos_new (
+    id BIGINT NOT NULL CONSTRAINT df_videos_id DEFAULT (NEXT VALUE FOR videos_seq) PRIMARY KEY,
+    title NVARCHAR(255) NOT NULL,
+    url NVARCHAR(255) NOT NULL,
+    thumbnail NVARCHAR(255),
+    description NVARCHAR(MAX),
+    order_index INT DEFAULT 0,
+    project_id BIGINT,
+    created_at DATETIME2 DEFAULT GETDATE(),
+    updated_at DATETIME2 DEFAULT GETDATE()
+);
+INSERT INTO videos_new (id, title, url, thumbnail, description, order_index, project_id, created_at, updated_at)
+SELECT id, title, url, thumbnail, description, order_index, project_id, created_at, updated_at FROM videos;
+DROP TABLE videos;
+EXEC sp_rename N'videos_new', N'videos';
+
+GO
+
+-- Project images
+CREATE TABLE project_images_new (
+    id BIGINT NOT NULL CONSTRAINT df_project_images_id DEFAULT (NEXT VALUE FOR project_images_seq) PRIMARY KEY,
+    url NVARCHAR(255) NOT NULL,
+    alt_text NVARCHAR(255),
+    order_index INT DEFAULT 0,
+    project_id BIGINT,
+    created_at DATETIME2 DEFAULT GETDATE()
+);
+INSERT INTO project_images_new (id, url, alt_text, order_index, project_id, created_at)
+SELECT id, url, alt_text, order_index, project_id, created_at FROM project_images;
+DROP TABLE project_images;
+EXEC sp_rename N'project_images_new', N'project_images';
+
+GO
+
+-- Foreign keys, as declared in V1
+ALTER TABLE projects ADD CONSTRAINT fk_projects_user FOREIGN KEY (user_id) REFERENCES users(id);
+ALTER TABLE project_technologies ADD CONSTRAINT fk_project_technologies_project
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE;
+ALTER TABLE project_technologies ADD CONSTRAINT fk_project_technologies_technology
+    FOREIGN KEY (technology_id) REFERENCES technologies(id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_videos_project
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE;
+ALTER TABLE project_tags ADD CONSTRAINT fk_project_tags_project
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE;
+ALTER TABLE project_tags ADD CONSTRAINT fk_project_tags_tag
+    FOREIGN KEY (tag_id) REFERENCES tags(id) ON DELETE CASCADE;
+ALTER TABLE project_images ADD CONSTRAINT fk_project_images_project
+    FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE;
+GO
@@ -1,6 +1,15 @@
+-- Id sequences. Hibernate takes ids 50 at a time (each value is the top of its block), so
+-- inserts can be batched; the column defaults draw from the same sequences.
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS projects_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS technologies_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS tags_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS videos_seq START WITH 50 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS project_images_seq START WITH 50 INCREMENT BY 50;
+
 -- Users Table
 CREATE TABLE IF NOT EXISTS users (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR users_seq PRIMARY KEY,
     username VARCHAR(50) NOT NULL UNIQUE,
     email VARCHAR(255) NOT NULL UNIQUE,
     password VARCHAR(255) NOT NULL,
@@ -15,7 +24,7 @@ CREATE TABLE IF NOT EXISTS users (
 
 -- Projects Table
 CREATE TABLE IF NOT EXISTS projects (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR projects_seq PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     slug VARCHAR(255) NOT NULL UNIQUE,
     description TEXT,
@@ -33,7 +42,7 @@ CREATE TABLE IF NOT EXISTS projects (
 
 -- Technologies Table
 CREATE TABLE IF NOT EXISTS technologies (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR technologies_seq PRIMARY KEY,
     name VARCHAR(100) NOT NULL UNIQUE,
     icon VARCHAR(255)
 );
@@ -49,7 +58,7 @@ CREATE TABLE IF NOT EXISTS project_technologies (
 
 -- Videos Table
 CREATE TABLE IF NOT EXISTS videos (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR videos_seq PRIMARY KEY,
     title VARCHAR(255) NOT NULL,
     url VARCHAR(255) NOT NULL,
     thumbnail VARCHAR(255),
@@ -63,7 +72,7 @@ CREATE TABLE IF NOT EXISTS videos (
 
 -- Tags Table
 CREATE TABLE IF NOT EXISTS tags (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR tags_seq PRIMARY KEY,
     name VARCHAR(100) NOT NULL UNIQUE
 );
 
@@ -78,11 +87,35 @@ CREATE TABLE IF NOT EXISTS project_tags (
 
 -- Images Table for Project Gallery
 CREATE TABLE IF NOT EXISTS project_images (
-    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id BIGINT DEFAULT NEXT VALUE FOR project_images_seq PRIMARY KEY,
     url VARCHAR(255) NOT NULL,
     alt_text VARCHAR(255),
     order_index INTEGER DEFAULT 0,
     project_id BIGINT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
-); 
\ No newline at end of file
+);
+
+-- Keyset pagination over (created_at, id), with and without the published filter
+CREATE INDEX IF NOT EXISTS idx_projects_created_at_id ON projects (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_projects_published_created_at_id ON projects (published, created_at DESC, id DESC);
+
+-- Outbox for contact form submissions; rows in status DEAD form the dead-letter store
+CREATE TABLE IF NOT EXISTS contact_messages (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    company VARCHAR(255),
+    email VARCHAR(255),
+    phone VARCHAR(255),
+    subject VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    wants_reply BOOLEAN DEFAULT false,
+    status VARCHAR(20) NOT NULL,
+    attempts INTEGER DEFAULT 0,
+    next_attempt_at TIMESTAMP,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    sent_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_contact_messages_status_next_attempt ON contact_messages (status, next_attempt_at);
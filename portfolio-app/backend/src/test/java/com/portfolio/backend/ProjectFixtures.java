@@ -0,0 +1,66 @@
+package com.portfolio.backend;
+
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.dto.ProjectImageDto;
+import com.portfolio.backend.dto.TagDto;
+import com.portfolio.backend.dto.TechnologyDto;
+import com.portfolio.backend.dto.VideoDto;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Project DTOs for tests, with only what the service requires filled in; tests set whatever
+ * else they are about.
+ */
+public final class ProjectFixtures {
+
+    private ProjectFixtures() {
+    }
+
+    public static ProjectDto project(String title) {
+        ProjectDto project = new ProjectDto();
+        project.setTitle(title);
+        project.setContent("Body of " + title);
+        return project;
+    }
+
+    /**
+     * A project with one video and one image, so the child collections are written too.
+     */
+    public static ProjectDto projectWithMedia(String title) {
+        ProjectDto project = project(title);
+        VideoDto video = new VideoDto();
+        video.setTitle("Demo of " + title);
+        video.setUrl("https://example.com/videos/demo.mp4");
+        project.setVideos(Set.of(video));
+        ProjectImageDto image = new ProjectImageDto();
+        image.setUrl("https://example.com/images/screenshot.png");
+        project.setImages(Set.of(image));
+        return project;
+    }
+
+    public static TagDto tag(String name) {
+        return new TagDto(null, name);
+    }
+
+    public static TechnologyDto technology(String name) {
+        return new TechnologyDto(null, name, null);
+    }
+
+    public static Set<TagDto> tags(String... names) {
+        Set<TagDto> tags = new LinkedHashSet<>();
+        for (String name : names) {
+            tags.add(tag(name));
+        }
+        return tags;
+    }
+
+    public static Set<TechnologyDto> technologies(String... names) {
+        Set<TechnologyDto> technologies = new LinkedHashSet<>();
+        for (String name : names) {
+            technologies.add(technology(name));
+        }
+        return technologies;
+    }
+}
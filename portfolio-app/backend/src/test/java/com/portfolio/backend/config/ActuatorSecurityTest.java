@@ -0,0 +1,55 @@
+package com.portfolio.backend.config;
+
+import com.bala.portfolio.PortfolioApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = PortfolioApplication.class)
+@AutoConfigureMockMvc
+// Metrics export (and with it /actuator/prometheus) is off in tests unless asked for
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void healthIsPublic() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void otherEndpointsRejectAnonymousCallers() throws Exception {
+        for (String endpoint : new String[] {"/actuator/metrics", "/actuator/caches", "/actuator/prometheus", "/actuator/info"}) {
+            mockMvc.perform(get(endpoint))
+                    .andExpect(status().isUnauthorized());
+        }
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void otherEndpointsRejectUsers() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminCanReadMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk());
+    }
+}
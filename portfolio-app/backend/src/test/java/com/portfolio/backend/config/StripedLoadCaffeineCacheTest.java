@@ -0,0 +1,105 @@
+package com.portfolio.backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedLoadCaffeineCacheTest {
+
+    private Cache<Object, Object> nativeCache;
+    private StripedLoadCaffeineCache cache;
+
+    @BeforeEach
+    void createCache() {
+        StatsCounter statsCounter = new ConcurrentStatsCounter();
+        nativeCache = Caffeine.newBuilder().recordStats(() -> statsCounter).build();
+        cache = new StripedLoadCaffeineCache("test", nativeCache, statsCounter, true);
+    }
+
+    @Test
+    void missIsCountedOnceAndLoadIsRecorded() {
+        assertThat(cache.get("key", () -> "value")).isEqualTo("value");
+        assertThat(cache.get("key", () -> "other")).isEqualTo("value");
+
+        CacheStats stats = nativeCache.stats();
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+        assertThat(stats.loadFailureCount()).isZero();
+        assertThat(stats.totalLoadTime()).isPositive();
+    }
+
+    @Test
+    void failedLoadIsRecordedAndNotCached() {
+        assertThatThrownBy(() -> cache.get("key", () -> {
+            throw new IllegalStateException("database down");
+        })).isInstanceOf(org.springframework.cache.Cache.ValueRetrievalException.class);
+
+        CacheStats stats = nativeCache.stats();
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.loadFailureCount()).isEqualTo(1);
+        assertThat(stats.loadSuccessCount()).isZero();
+        assertThat(cache.get("key")).isNull();
+    }
+
+    @Test
+    void concurrentMissesLoadOnce() throws Exception {
+        int callers = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            Future<?> first = executor.submit(() -> cache.get("key", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                release.await();
+                return "value";
+            }));
+            loading.await();
+            Future<?>[] others = new Future<?>[callers - 1];
+            for (int i = 0; i < others.length; i++) {
+                others[i] = executor.submit(() -> cache.get("key", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                }));
+            }
+            release.countDown();
+            assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            for (Future<?> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        CacheStats stats = nativeCache.stats();
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+        assertThat(stats.requestCount()).isEqualTo(callers);
+    }
+
+    @Test
+    void loadRacingAnEvictionIsNotCached() {
+        assertThat(cache.get("key", () -> {
+            cache.evict("key");
+            return "stale";
+        })).isEqualTo("stale");
+
+        assertThat(cache.get("key")).isNull();
+    }
+}
@@ -0,0 +1,57 @@
+package com.portfolio.backend.controller;
+
+import com.bala.portfolio.PortfolioApplication;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Offset-paged reads take the same page-size bounds as the cursor endpoint, and refuse page
+ * indexes that are negative or whose offset doesn't fit an int, instead of failing with a 500.
+ */
+@SpringBootTest(classes = PortfolioApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectControllerPagingTest {
+
+    private static final String OVERFLOWING_PAGE = String.valueOf(Integer.MAX_VALUE);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/projects", "/api/projects?tags=java", "/api/projects/summaries",
+            "/api/projects/search?keyword=java"})
+    void acceptsPagesWithinTheLimits(String url) throws Exception {
+        mockMvc.perform(get(url).param("page", "0").param("size", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get(url).param("page", "3").param("size", "100"))
+                .andExpect(status().isOk());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/projects", "/api/projects?tags=java", "/api/projects/summaries",
+            "/api/projects/search?keyword=java"})
+    void rejectsPagesOutsideTheLimits(String url) throws Exception {
+        mockMvc.perform(get(url).param("page", "-1"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get(url).param("size", "101"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/api/projects?tags=java", "/api/projects/search?keyword=java"})
+    void rejectsPagesWhoseOffsetOverflows(String url) throws Exception {
+        mockMvc.perform(get(url).param("page", OVERFLOWING_PAGE).param("size", "100"))
+                .andExpect(status().isBadRequest());
+    }
+}
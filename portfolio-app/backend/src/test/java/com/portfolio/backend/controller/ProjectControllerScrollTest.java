@@ -0,0 +1,45 @@
+package com.portfolio.backend.controller;
+
+import com.bala.portfolio.PortfolioApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = PortfolioApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectControllerScrollTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void acceptsPageSizesUpToTheLimit() throws Exception {
+        mockMvc.perform(get("/api/projects/scroll").param("size", "1"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects/scroll").param("size", "100"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void rejectsPageSizesOutsideTheLimit() throws Exception {
+        mockMvc.perform(get("/api/projects/scroll").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/projects/scroll").param("size", "101"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/projects/scroll").param("size", String.valueOf(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void rejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/projects/scroll").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+}
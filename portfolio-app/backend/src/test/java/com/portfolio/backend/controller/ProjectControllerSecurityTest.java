@@ -0,0 +1,156 @@
+package com.portfolio.backend.controller;
+
+import com.bala.portfolio.PortfolioApplication;
+import com.portfolio.backend.repository.ProjectRepository;
+import com.portfolio.backend.service.ProjectService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.portfolio.backend.ProjectFixtures.project;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(classes = PortfolioApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ProjectControllerSecurityTest {
+
+    private static final String PROJECT_JSON = "{\"title\":\"Secured project\",\"content\":\"Body\"}";
+    private static final String NDJSON = "application/x-ndjson";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private Long projectId;
+
+    @BeforeEach
+    void createProject() {
+        projectId = projectService.createProject(project("Existing project")).getId();
+    }
+
+    @Test
+    void anonymousCallerCannotCreateProjects() throws Exception {
+        long before = projectRepository.count();
+
+        mockMvc.perform(post("/api/projects").contentType(MediaType.APPLICATION_JSON).content(PROJECT_JSON))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(projectRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void anonymousCallerCannotUpdateProjects() throws Exception {
+        mockMvc.perform(put("/api/projects/{id}", projectId).contentType(MediaType.APPLICATION_JSON).content(PROJECT_JSON))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(projectRepository.findById(projectId)).get()
+                .extracting("title").isEqualTo("Existing project");
+    }
+
+    @Test
+    void anonymousCallerCannotDeleteProjects() throws Exception {
+        mockMvc.perform(delete("/api/projects/{id}", projectId))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(projectRepository.existsById(projectId)).isTrue();
+    }
+
+    @Test
+    @WithMockUser(roles = "GUEST")
+    void callerWithoutProjectRoleIsForbidden() throws Exception {
+        mockMvc.perform(delete("/api/projects/{id}", projectId))
+                .andExpect(status().isForbidden());
+
+        assertThat(projectRepository.existsById(projectId)).isTrue();
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void userCannotCreateProjects() throws Exception {
+        long before = projectRepository.count();
+
+        mockMvc.perform(post("/api/projects").contentType(MediaType.APPLICATION_JSON).content(PROJECT_JSON))
+                .andExpect(status().isForbidden());
+
+        assertThat(projectRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void userCannotUpdateOrDeleteProjects() throws Exception {
+        mockMvc.perform(put("/api/projects/{id}", projectId).contentType(MediaType.APPLICATION_JSON).content(PROJECT_JSON))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(delete("/api/projects/{id}", projectId))
+                .andExpect(status().isForbidden());
+
+        assertThat(projectRepository.findById(projectId)).get()
+                .extracting("title").isEqualTo("Existing project");
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminCanCreateProjects() throws Exception {
+        mockMvc.perform(post("/api/projects").contentType(MediaType.APPLICATION_JSON).content(PROJECT_JSON))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void anonymousCallerCannotImportProjects() throws Exception {
+        long before = projectRepository.count();
+
+        mockMvc.perform(post("/api/projects/import").contentType(NDJSON).content(PROJECT_JSON + "\n"))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(projectRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void userCannotImportProjects() throws Exception {
+        long before = projectRepository.count();
+
+        mockMvc.perform(post("/api/projects/import").contentType(NDJSON).content(PROJECT_JSON + "\n"))
+                .andExpect(status().isForbidden());
+
+        assertThat(projectRepository.count()).isEqualTo(before);
+    }
+
+    @Test
+    void anonymousCallerCannotExportProjects() throws Exception {
+        mockMvc.perform(get("/api/projects/export"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void userCannotExportProjects() throws Exception {
+        mockMvc.perform(get("/api/projects/export"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void adminCanImportAndExportProjects() throws Exception {
+        mockMvc.perform(post("/api/projects/import").contentType(NDJSON).content(PROJECT_JSON + "\n"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/projects/export"))
+                .andExpect(status().isOk());
+    }
+}
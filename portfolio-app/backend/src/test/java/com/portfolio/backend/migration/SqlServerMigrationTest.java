@@ -0,0 +1,157 @@
+package com.portfolio.backend.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MSSQLServerContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the production (SQL Server) migrations on a real server: rows written under the V1
+ * IDENTITY columns must survive the V4 table rebuilds unchanged (every column, ids and links
+ * included), new rows must take ids past them from the sequences, and the foreign keys and
+ * indexes must be back.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class SqlServerMigrationTest {
+
+    private static final String LOCATION = "classpath:db/migration/sqlserver";
+
+    // Every table with data before V4, read in key order
+    private static final Map<String, String> SNAPSHOT_QUERIES = new LinkedHashMap<>();
+
+    static {
+        SNAPSHOT_QUERIES.put("users", "SELECT * FROM users ORDER BY id");
+        SNAPSHOT_QUERIES.put("projects", "SELECT * FROM projects ORDER BY id");
+        SNAPSHOT_QUERIES.put("technologies", "SELECT * FROM technologies ORDER BY id");
+        SNAPSHOT_QUERIES.put("tags", "SELECT * FROM tags ORDER BY id");
+        SNAPSHOT_QUERIES.put("project_technologies", "SELECT * FROM project_technologies ORDER BY project_id, technology_id");
+        SNAPSHOT_QUERIES.put("project_tags", "SELECT * FROM project_tags ORDER BY project_id, tag_id");
+        SNAPSHOT_QUERIES.put("videos", "SELECT * FROM videos ORDER BY id");
+        SNAPSHOT_QUERIES.put("project_images", "SELECT * FROM project_images ORDER BY id");
+        SNAPSHOT_QUERIES.put("contact_messages", "SELECT * FROM contact_messages ORDER BY id");
+    }
+
+    @Container
+    private static final MSSQLServerContainer<?> SQL_SERVER =
+            new MSSQLServerContainer<>("mcr.microsoft.com/mssql/server:2022-latest").acceptLicense();
+
+    @Test
+    void sequenceMigrationKeepsRowsAndContinuesIds() {
+        DataSource dataSource = new DriverManagerDataSource(SQL_SERVER.getJdbcUrl(), SQL_SERVER.getUsername(),
+                SQL_SERVER.getPassword());
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).locations(LOCATION).target("3").load().migrate();
+        seed(jdbc);
+        Map<String, List<Map<String, Object>>> before = snapshot(jdbc);
+        Long projectId = jdbc.queryForObject("SELECT id FROM projects WHERE slug = 'linked'", Long.class);
+        Long tagId = jdbc.queryForObject("SELECT id FROM tags WHERE name = 'legacy'", Long.class);
+
+        MigrateResult result = Flyway.configure().dataSource(dataSource).locations(LOCATION).load().migrate();
+
+        assertThat(result.success).isTrue();
+        assertThat(result.targetSchemaVersion).isEqualTo("4");
+        // Same rows, same ids, same links, same values, table by table
+        Map<String, List<Map<String, Object>>> after = snapshot(jdbc);
+        for (String table : SNAPSHOT_QUERIES.keySet()) {
+            assertThat(after.get(table)).as(table).hasSameSizeAs(before.get(table)).isEqualTo(before.get(table));
+        }
+
+        // The id defaults now come from the sequences, past every id the IDENTITY columns handed out
+        jdbc.update("INSERT INTO projects (title, slug, content) VALUES ('After', 'after', 'Body')");
+        assertThat(jdbc.queryForObject("SELECT id FROM projects WHERE slug = 'after'", Long.class))
+                .isGreaterThan(maxId(before.get("projects")));
+        jdbc.update("INSERT INTO tags (name) VALUES ('fresh')");
+        assertThat(jdbc.queryForObject("SELECT id FROM tags WHERE name = 'fresh'", Long.class))
+                .isGreaterThan(maxId(before.get("tags")));
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM sys.sequences WHERE name LIKE '%[_]seq'", Integer.class))
+                .isEqualTo(6);
+
+        // Foreign keys and the listing indexes are back
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM sys.foreign_keys", Integer.class)).isEqualTo(7);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM sys.indexes WHERE name IN "
+                + "('idx_projects_created_at_id', 'idx_projects_published_created_at_id')", Integer.class)).isEqualTo(2);
+        assertThatThrownBy(() -> jdbc.update("INSERT INTO project_tags (project_id, tag_id) VALUES (?, ?)", -1L, tagId))
+                .isInstanceOf(DataIntegrityViolationException.class);
+        jdbc.update("DELETE FROM projects WHERE id = ?", projectId);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM project_tags WHERE project_id = ?", Integer.class, projectId))
+                .isZero();
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM project_images WHERE project_id = ?", Integer.class, projectId))
+                .isZero();
+    }
+
+    // Several rows per table, a deleted project leaving a gap in the ids, an unowned project
+    // and a contact message, on top of the admin user and technologies V1 inserts
+    private static void seed(JdbcTemplate jdbc) {
+        jdbc.update("INSERT INTO users (username, email, password, role, bio) "
+                + "VALUES ('editor', 'editor@example.com', 'hash', 'ROLE_USER', 'Writes things')");
+        jdbc.update("INSERT INTO tags (name) VALUES ('legacy'), ('backend'), ('frontend')");
+        insertProject(jdbc, "linked", "admin");
+        insertProject(jdbc, "deleted", "editor");
+        insertProject(jdbc, "unowned", null);
+        insertProject(jdbc, "editors", "editor");
+        jdbc.update("DELETE FROM projects WHERE slug = 'deleted'");
+
+        link(jdbc, "project_tags", "tag_id", "tags", "linked", "legacy");
+        link(jdbc, "project_tags", "tag_id", "tags", "linked", "backend");
+        link(jdbc, "project_tags", "tag_id", "tags", "unowned", "frontend");
+        link(jdbc, "project_technologies", "technology_id", "technologies", "linked", "Java");
+        link(jdbc, "project_technologies", "technology_id", "technologies", "linked", "React");
+        link(jdbc, "project_technologies", "technology_id", "technologies", "unowned", "Docker");
+        link(jdbc, "project_technologies", "technology_id", "technologies", "editors", "Java");
+
+        jdbc.update("INSERT INTO videos (title, url, order_index, project_id) "
+                + "SELECT 'Demo', 'https://example.com/v1', 0, id FROM projects WHERE slug = 'linked'");
+        jdbc.update("INSERT INTO videos (title, url, order_index, project_id) "
+                + "SELECT 'Walkthrough', 'https://example.com/v2', 1, id FROM projects WHERE slug = 'linked'");
+        jdbc.update("INSERT INTO videos (title, url, project_id) "
+                + "SELECT 'Intro', 'https://example.com/v3', id FROM projects WHERE slug = 'editors'");
+        jdbc.update("INSERT INTO project_images (url, alt_text, project_id) "
+                + "SELECT 'https://example.com/i1.png', 'Screenshot', id FROM projects WHERE slug = 'linked'");
+        jdbc.update("INSERT INTO project_images (url, order_index, project_id) "
+                + "SELECT 'https://example.com/i2.png', 0, id FROM projects WHERE slug = 'unowned'");
+        jdbc.update("INSERT INTO project_images (url, order_index, project_id) "
+                + "SELECT 'https://example.com/i3.png', 1, id FROM projects WHERE slug = 'unowned'");
+
+        jdbc.update("INSERT INTO contact_messages (name, email, subject, message, status) "
+                + "VALUES ('Visitor', 'visitor@example.com', 'Hello', 'Body', 'PENDING')");
+    }
+
+    private static void insertProject(JdbcTemplate jdbc, String slug, String username) {
+        jdbc.update("INSERT INTO projects (title, slug, content, published, user_id) "
+                + "VALUES (?, ?, 'Body', 1, (SELECT id FROM users WHERE username = ?))", slug, slug, username);
+    }
+
+    private static void link(JdbcTemplate jdbc, String joinTable, String column, String table,
+                             String slug, String name) {
+        jdbc.update("INSERT INTO " + joinTable + " (project_id, " + column + ") "
+                + "SELECT p.id, t.id FROM projects p, " + table + " t WHERE p.slug = ? AND t.name = ?", slug, name);
+    }
+
+    private static Map<String, List<Map<String, Object>>> snapshot(JdbcTemplate jdbc) {
+        Map<String, List<Map<String, Object>>> snapshot = new LinkedHashMap<>();
+        SNAPSHOT_QUERIES.forEach((table, query) -> {
+            List<Map<String, Object>> rows = jdbc.queryForList(query);
+            assertThat(rows).as("seeded %s", table).isNotEmpty();
+            snapshot.put(table, rows);
+        });
+        return snapshot;
+    }
+
+    private static long maxId(List<Map<String, Object>> rows) {
+        return rows.stream().mapToLong(row -> ((Number) row.get("id")).longValue()).max().orElse(0);
+    }
+}
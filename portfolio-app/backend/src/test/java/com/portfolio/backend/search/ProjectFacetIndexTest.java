@@ -0,0 +1,70 @@
+package com.portfolio.backend.search;
+
+import com.bala.portfolio.PortfolioApplication;
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+import static com.portfolio.backend.ProjectFixtures.project;
+import static com.portfolio.backend.ProjectFixtures.tags;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * With pooled sequence blocks a higher id can belong to an older project, so the index must
+ * order by creation time, then id, like the listing, rather than by id alone.
+ */
+@SpringBootTest(classes = PortfolioApplication.class)
+@ActiveProfiles("test")
+class ProjectFacetIndexTest {
+
+    private static final String TAG = "facet-order";
+
+    @Autowired
+    private ProjectFacetIndex projectFacetIndex;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void filteredProjectsComeBackNewestFirstByCreationTimeThenId() {
+        long first = createProject("first");
+        long second = createProject("second");
+        long third = createProject("third");
+        long fourth = createProject("fourth");
+        // As if another instance had inserted the two highest ids first
+        setCreatedAt(first, "2024-03-01T00:00:00Z");
+        setCreatedAt(second, "2024-02-01T00:00:00Z");
+        setCreatedAt(third, "2024-01-01T00:00:00Z");
+        setCreatedAt(fourth, "2024-01-01T00:00:00Z");
+        projectFacetIndex.rebuild();
+
+        SearchResult all = projectFacetIndex.filter(List.of(TAG), List.of(), false, false, 0, 10);
+        SearchResult secondPage = projectFacetIndex.filter(List.of(TAG), List.of(), false, false, 2, 2);
+
+        assertThat(all.getTotalHits()).isEqualTo(4);
+        assertThat(all.getProjectIds()).containsExactly(first, second, fourth, third);
+        assertThat(secondPage.getProjectIds()).containsExactly(fourth, third);
+    }
+
+    private long createProject(String title) {
+        ProjectDto project = project(title);
+        project.setTags(tags(TAG));
+        return projectService.createProject(project).getId();
+    }
+
+    private void setCreatedAt(long projectId, String createdAt) {
+        jdbcTemplate.update("UPDATE projects SET created_at = ? WHERE id = ?",
+                Timestamp.from(Instant.parse(createdAt)), projectId);
+    }
+}
@@ -0,0 +1,104 @@
+package com.portfolio.backend.security;
+
+import com.bala.portfolio.PortfolioApplication;
+import com.portfolio.backend.model.User;
+import com.portfolio.backend.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Tokens name the user but not the roles; a role change, rename or deletion must apply to
+ * tokens issued before it, and cached user details must not outlive the change.
+ */
+@SpringBootTest(classes = PortfolioApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class JwtAuthenticationFilterTest {
+
+    private static final String PROJECT_JSON = "{\"title\":\"Token project\",\"content\":\"Body\"}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CustomUserDetailsService userDetailsService;
+
+    private User user;
+    private String username;
+    private String token;
+
+    @BeforeEach
+    void createUser() {
+        // The context, and with it the database, is shared by the tests
+        username = "token-user-" + UUID.randomUUID().toString().substring(0, 8);
+        user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("not-a-real-hash");
+        user.setRole("ROLE_USER");
+        user = userRepository.saveAndFlush(user);
+        // Caches the user's details, as a login would
+        userDetailsService.loadUserByUsername(user.getUsername());
+        token = jwtTokenProvider.generateToken(new UsernamePasswordAuthenticationToken(
+                user.getUsername(), null, List.of(new SimpleGrantedAuthority(user.getRole()))));
+    }
+
+    @Test
+    void roleChangeAppliesToIssuedTokens() throws Exception {
+        createProject().andExpect(status().isForbidden());
+
+        user.setRole("ROLE_ADMIN");
+        userRepository.saveAndFlush(user);
+
+        createProject().andExpect(status().isCreated());
+    }
+
+    @Test
+    void renamedUsersTokensAndCachedDetailsAreDropped() throws Exception {
+        user.setUsername("renamed-" + username);
+        user.setRole("ROLE_ADMIN");
+        userRepository.saveAndFlush(user);
+
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(username))
+                .isInstanceOf(UsernameNotFoundException.class);
+        createProject().andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void deletedUsersTokensAreRejected() throws Exception {
+        userRepository.delete(user);
+
+        createProject().andExpect(status().isUnauthorized());
+    }
+
+    private ResultActions createProject() throws Exception {
+        return mockMvc.perform(post("/api/projects")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(PROJECT_JSON));
+    }
+}
@@ -0,0 +1,40 @@
+package com.portfolio.backend.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-only-jwt-secret-0123456789abcdef";
+
+    @Test
+    void missingOrShortSecretFailsStartup() {
+        for (String secret : new String[] {null, "", "   ", "your-secret-key", "31-bytes-is-one-short-of-enough"}) {
+            assertThatThrownBy(() -> provider(secret))
+                    .as("secret %s", secret)
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageContaining("jwt.secret");
+        }
+    }
+
+    @Test
+    void tokenRoundTripsWithLongEnoughSecret() {
+        JwtTokenProvider provider = provider(SECRET);
+        Authentication login = new UsernamePasswordAuthenticationToken(
+                "alice", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+
+        assertThat(provider.getUsername(provider.generateToken(login))).isEqualTo("alice");
+    }
+
+    private static JwtTokenProvider provider(String secret) {
+        return new JwtTokenProvider(secret, 60_000, 100, Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,38 @@
+package com.portfolio.backend.service.impl;
+
+import com.bala.portfolio.PortfolioApplication;
+import com.portfolio.backend.dto.RegisterRequest;
+import com.portfolio.backend.dto.UserDto;
+import com.portfolio.backend.service.AuthService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sequence ids defer the user's INSERT to the flush, which is also when createdAt is set;
+ * the registration response must still carry it.
+ */
+@SpringBootTest(classes = PortfolioApplication.class)
+@ActiveProfiles("test")
+class AuthServiceImplTest {
+
+    @Autowired
+    private AuthService authService;
+
+    @Test
+    void registeredUserCarriesCreationTimestamp() {
+        RegisterRequest request = new RegisterRequest();
+        request.setUsername("registered-user");
+        request.setEmail("registered-user@example.com");
+        request.setPassword("secret-password");
+
+        UserDto registered = authService.register(request).join();
+
+        assertThat(registered.getId()).isNotNull();
+        assertThat(registered.getCreatedAt()).isNotNull();
+        assertThat(registered.getRole()).isEqualTo("ROLE_USER");
+    }
+}
@@ -0,0 +1,71 @@
+package com.portfolio.backend.service.impl;
+
+import com.bala.portfolio.PortfolioApplication;
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.service.ProjectService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+
+
+import static com.portfolio.backend.ProjectFixtures.projectWithMedia;
+import static com.portfolio.backend.ProjectFixtures.tags;
+import static com.portfolio.backend.ProjectFixtures.technologies;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the batch fetching on {@code Project}: a page costs one select, one count and one
+ * query per collection, however many projects are on it.
+ */
+@SpringBootTest(classes = PortfolioApplication.class,
+        properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class ProjectServiceImplStatementCountTest {
+
+    private static final int MAX_STATEMENTS_PER_PAGE = 6;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void createProjects() {
+        for (int i = 0; i < 12; i++) {
+            ProjectDto project = projectWithMedia("Statement count " + i);
+            project.setPublished(true);
+            project.setTags(tags("tag-" + (i % 3), "shared"));
+            project.setTechnologies(technologies("Java"));
+            projectService.createProject(project);
+        }
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+    }
+
+    @Test
+    void pageOfTenCostsAtMostSixStatements() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<ProjectDto> page = projectService.getAllProjects(0, 10, false);
+
+        assertThat(page.getContent()).hasSize(10);
+        page.getContent().forEach(project -> {
+            assertThat(project.getTags()).hasSize(2);
+            assertThat(project.getTechnologies()).hasSize(1);
+            assertThat(project.getVideos()).hasSize(1);
+            assertThat(project.getImages()).hasSize(1);
+        });
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(MAX_STATEMENTS_PER_PAGE);
+    }
+}
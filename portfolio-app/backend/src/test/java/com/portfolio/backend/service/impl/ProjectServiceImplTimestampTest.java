@@ -0,0 +1,66 @@
+package com.portfolio.backend.service.impl;
+
+import com.bala.portfolio.PortfolioApplication;
+import com.portfolio.backend.dto.ProjectDto;
+import com.portfolio.backend.event.ProjectChangedEvent;
+import com.portfolio.backend.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static com.portfolio.backend.ProjectFixtures.projectWithMedia;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sequence ids defer inserts to the flush, which is also when the creation and update
+ * timestamps are set; responses and change events must still carry them.
+ */
+@SpringBootTest(classes = PortfolioApplication.class)
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class ProjectServiceImplTimestampTest {
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void createdProjectCarriesTimestamps() {
+        ProjectDto created = projectService.createProject(projectWithMedia("Timestamped"));
+
+        assertTimestamped(created);
+        assertThat(events.stream(ProjectChangedEvent.class))
+                .singleElement()
+                .satisfies(event -> assertTimestamped(event.getProject()));
+    }
+
+    @Test
+    void importedProjectEventsCarryTimestamps() throws Exception {
+        String ndjson = "{\"title\":\"Imported one\",\"content\":\"Body\","
+                + "\"videos\":[{\"title\":\"Demo\",\"url\":\"https://example.com/video\"}],"
+                + "\"images\":[{\"url\":\"https://example.com/image.png\"}]}\n"
+                + "{\"title\":\"Imported two\",\"content\":\"Body\"}\n";
+
+        projectService.importProjects(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        List<ProjectChangedEvent> created = events.stream(ProjectChangedEvent.class).toList();
+        assertThat(created).hasSize(2);
+        created.forEach(event -> assertTimestamped(event.getProject()));
+    }
+
+    private static void assertTimestamped(ProjectDto project) {
+        assertThat(project.getCreatedAt()).isNotNull();
+        assertThat(project.getUpdatedAt()).isNotNull();
+        project.getVideos().forEach(video -> assertThat(video.getCreatedAt()).isNotNull());
+        project.getImages().forEach(image -> assertThat(image.getCreatedAt()).isNotNull());
+    }
+}
@@ -0,0 +1,64 @@
+package com.portfolio.backend.taxonomy;
+
+import com.bala.portfolio.PortfolioApplication;
+import com.portfolio.backend.dto.TagDto;
+import com.portfolio.backend.dto.TechnologyDto;
+import com.portfolio.backend.model.Tag;
+import com.portfolio.backend.model.Technology;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.Set;
+
+import static com.portfolio.backend.ProjectFixtures.tag;
+import static com.portfolio.backend.ProjectFixtures.technology;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = PortfolioApplication.class)
+@ActiveProfiles("test")
+class TaxonomyDictionaryTest {
+
+    @Autowired
+    private TaxonomyDictionary taxonomyDictionary;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void reusesRowAnotherInstanceAddedWithDifferentCase() {
+        // Loads the snapshot before the rows below exist, as on an instance that hasn't seen them
+        taxonomyDictionary.resolve(List.of(tag("warm-up")), List.of());
+        jdbcTemplate.update("INSERT INTO tags (id, name) VALUES (NEXT VALUE FOR tags_seq, 'kotlin')");
+        jdbcTemplate.update("INSERT INTO technologies (id, name, icon) VALUES (NEXT VALUE FOR technologies_seq, 'gradle', 'g')");
+        Long tagId = jdbcTemplate.queryForObject("SELECT id FROM tags WHERE name = 'kotlin'", Long.class);
+        Long technologyId = jdbcTemplate.queryForObject("SELECT id FROM technologies WHERE name = 'gradle'", Long.class);
+
+        List<TagDto> tags = List.of(tag("Kotlin"));
+        List<TechnologyDto> technologies = List.of(technology("Gradle"));
+        TaxonomyDictionary.Lookup lookup = taxonomyDictionary.resolve(tags, technologies);
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE LOWER(name) = 'kotlin'", Integer.class))
+                .isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM technologies WHERE LOWER(name) = 'gradle'", Integer.class))
+                .isEqualTo(1);
+        Set<Tag> resolvedTags = lookup.tags(tags);
+        assertThat(resolvedTags).singleElement().extracting(Tag::getId).isEqualTo(tagId);
+        Set<Technology> resolvedTechnologies = lookup.technologies(technologies);
+        assertThat(resolvedTechnologies).singleElement().extracting(Technology::getId).isEqualTo(technologyId);
+    }
+
+    @Test
+    void namesDifferingOnlyInCaseShareOneRow() {
+        taxonomyDictionary.resolve(List.of(tag("Spring")), List.of());
+        TaxonomyDictionary.Lookup lookup = taxonomyDictionary.resolve(List.of(tag("SPRING")), List.of());
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tags WHERE LOWER(name) = 'spring'", Integer.class))
+                .isEqualTo(1);
+        assertThat(lookup.tags(List.of(tag("spring")))).singleElement()
+                .extracting(Tag::getName).isEqualTo("Spring");
+    }
+}
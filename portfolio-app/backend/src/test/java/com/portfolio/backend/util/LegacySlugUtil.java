@@ -0,0 +1,34 @@
+package com.portfolio.backend.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * The regex-based SlugUtil as it was before the single-pass rewrite. It is the reference
+ * {@link SlugUtilEquivalenceTest} checks against and the baseline for the JMH
+ * {@code SlugUtilBenchmark}.
+ */
+public final class LegacySlugUtil {
+    private static final Pattern NONLATIN = Pattern.compile("[^\\w-]");
+    private static final Pattern WHITESPACE = Pattern.compile("[\\s]");
+    private static final Pattern MULTIPLE_DASHES = Pattern.compile("-+");
+
+    private LegacySlugUtil() {
+    }
+
+    public static String createSlug(String input) {
+        if (input == null) {
+            return "";
+        }
+
+        String nowhitespace = WHITESPACE.matcher(input).replaceAll("-");
+        String normalized = Normalizer.normalize(nowhitespace, Normalizer.Form.NFD);
+        String slug = NONLATIN.matcher(normalized).replaceAll("");
+        slug = MULTIPLE_DASHES.matcher(slug).replaceAll("-");
+        slug = slug.toLowerCase(Locale.ENGLISH);
+        slug = slug.replaceAll("^-|-$", "");
+        
+        return slug;
+    }
+}
@@ -0,0 +1,81 @@
+package com.portfolio.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The single-pass {@link SlugUtil} must produce exactly what the regex implementation did,
+ * since existing slugs (and the URLs built from them) were made by it. Checked on seeded
+ * random inputs and on every BMP character, so a failure is reproducible.
+ */
+class SlugUtilEquivalenceTest {
+
+    private static final long SEED = 42L;
+    private static final int RANDOM_INPUTS = 500_000;
+    private static final int MAX_LENGTH = 20;
+
+    // Characters where a naive rewrite tends to diverge: whitespace other than ' ', characters
+    // NFD decomposes (accents, Kelvin and Angstrom signs, ligatures, fractions), combining
+    // marks, dotted/dotless i, sharp s, a surrogate pair and punctuation
+    private static final String TRICKY = "aZ09_- \t\n\u000B\f\r\u00A0\u2003\u3000.!@#$%^&*()+=[]{}|;:'\",<>/?`~"
+            + "\u00E9\u00C9\u2014\u212A\u212B\u0301\u00DF\u0130\u0131\uFB01\u00BD\uD83D\uDE00\u1E9E\u01C4";
+
+    @Test
+    void matchesLegacyImplementationOnRandomInputs() {
+        Random random = new Random(SEED);
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            String input = randomInput(random);
+            assertThat(SlugUtil.createSlug(input))
+                    .as("slug of %s", codePoints(input))
+                    .isEqualTo(LegacySlugUtil.createSlug(input));
+        }
+    }
+
+    @Test
+    void matchesLegacyImplementationOnEveryBmpCharacter() {
+        for (int c = 0; c <= Character.MAX_VALUE; c++) {
+            String input = "A" + (char) c + "-b" + (char) c;
+            assertThat(SlugUtil.createSlug(input))
+                    .as("slug of %s", codePoints(input))
+                    .isEqualTo(LegacySlugUtil.createSlug(input));
+        }
+    }
+
+    @Test
+    void matchesLegacyImplementationOnEdgeCases() {
+        for (String input : new String[] {null, "", " ", "-", "---", " - ", "already-a-slug", "Trailing dash -",
+                "\u00E9", "e\u0301", "\u212A\u212B", "\uD83D\uDE00", "\uD83D", "\uDE00 x"}) {
+            assertThat(SlugUtil.createSlug(input))
+                    .as("slug of %s", input == null ? "null" : codePoints(input))
+                    .isEqualTo(LegacySlugUtil.createSlug(input));
+        }
+    }
+
+    private static String randomInput(Random random) {
+        int length = random.nextInt(MAX_LENGTH);
+        boolean ascii = random.nextBoolean();
+        StringBuilder input = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            int kind = random.nextInt(10);
+            if (ascii) {
+                input.append((char) random.nextInt(128));
+            } else if (kind < 6) {
+                input.append(TRICKY.charAt(random.nextInt(TRICKY.length())));
+            } else if (kind < 8) {
+                input.append((char) random.nextInt(0x3000));
+            } else {
+                input.append((char) random.nextInt(Character.MAX_VALUE + 1));
+            }
+        }
+        return input.toString();
+    }
+
+    private static String codePoints(String input) {
+        StringBuilder hex = new StringBuilder();
+        input.chars().forEach(c -> hex.append(String.format("\\u%04X", c)));
+        return hex.toString();
+    }
+}
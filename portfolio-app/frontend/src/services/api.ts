@@ -64,6 +64,12 @@ export const projectService = {
     });
     return response.data;
   },
+  getProjectSummaries: async (page = 0, size = 10, onlyPublished = false) => {
+    const response = await api.get('/projects/summaries', {
+      params: { page, size, onlyPublished },
+    });
+    return response.data;
+  },
   getProjectBySlug: async (slug: string) => {
     const response = await api.get(`/projects/${slug}`);
     return response.data;